@@ -1,13 +1,43 @@
 package contest.mobicom_contest.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class ApplicationConfig {
+    // 법령 분석 fan-out 용 (이슈/법령 단위 작업은 대부분 외부 API 대기이므로 가상 스레드 사용)
+    @Bean
+    public ExecutorService analysisExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    // 비동기 분석 작업 풀 (대기열이 가득 차면 RejectedExecutionException 으로 거절)
+    @Bean
+    public ExecutorService analysisJobExecutor(@Value("${law.analysis.jobs.workers:4}") int workers,
+                                               @Value("${law.analysis.jobs.queue-capacity:50}") int queueCapacity) {
+        return new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("analysis-job-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 이미지 축소·JPEG 인코딩 전용 CPU 풀 (기본 코어 수). 대기열이 가득 차면 거절하고 429 로 응답한다
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public ThreadPoolExecutor imageExecutor(@Value("${papago.image.workers:0}") int workers,
+                                            @Value("${papago.image.queue-capacity:8}") int queueCapacity) {
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
     }
 }
@@ -2,13 +2,20 @@ package contest.mobicom_contest.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
+@EnableConfigurationProperties(S3UploadProperties.class)
 public class AwsS3Config {
 
     @Value("${cloud.aws.credentials.access-key}")
@@ -20,12 +27,31 @@ public class AwsS3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // S3 호환 저장소(MinIO, LocalStack 등)로 보낼 때만 지정. 비우면 리전 기본 엔드포인트 사용
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${cloud.aws.s3.path-style-access:false}")
+    private boolean pathStyleAccess;
+
     @Bean
     public AmazonS3 amazonS3() {
         BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
                 .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
-                .build();
+                .withPathStyleAccessEnabled(pathStyleAccess);
+        if (StringUtils.hasText(endpoint)) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region));
+        } else {
+            builder.withRegion(region);
+        }
+        return builder.build();
+    }
+
+    // 멀티파트 업로드의 파트 전송용 (동시에 전송되는 파트 수 상한)
+    @Bean
+    public ExecutorService s3UploadExecutor(S3UploadProperties properties) {
+        return Executors.newFixedThreadPool(Math.max(1, properties.getPartConcurrency()),
+                Thread.ofPlatform().name("s3-upload-", 0).factory());
     }
 }
@@ -0,0 +1,82 @@
+package contest.mobicom_contest.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 업스트림(law.go.kr, OpenAI, Papago)별로 커넥션 풀과 타임아웃을 따로 둔 RestTemplate.
+ * 한 업스트림이 느려져도 다른 업스트림의 커넥션·스레드를 잡아먹지 않게 한다.
+ * 풀 사용량은 httpcomponents.httpclient.pool.* 지표(httpclient 태그)로 노출된다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+
+    // 유휴 커넥션 정리 주기와 커넥션 최대 수명 (업스트림 쪽 keep-alive 종료에 대비)
+    private static final TimeValue IDLE_EVICTION = TimeValue.ofSeconds(30);
+    private static final TimeValue CONNECTION_TTL = TimeValue.ofMinutes(5);
+
+    private final HttpClientProperties properties;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public RestTemplate lawRestTemplate() {
+        return build("law", properties.getLaw());
+    }
+
+    @Bean
+    public RestTemplate openAiRestTemplate() {
+        return build("openai", properties.getOpenai());
+    }
+
+    @Bean
+    public RestTemplate papagoRestTemplate() {
+        return build("papago", properties.getPapago());
+    }
+
+    private RestTemplate build(String name, HttpClientProperties.Client client) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(client.getMaxConnections())
+                .setMaxConnPerRoute(client.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(client.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(client.getReadTimeout()))
+                        .setTimeToLive(CONNECTION_TTL)
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀이 가득 찼을 때 커넥션을 기다리는 시간
+                        .setConnectionRequestTimeout(Timeout.of(client.getConnectTimeout()))
+                        .setResponseTimeout(Timeout.of(client.getReadTimeout()))
+                        .build())
+                .evictIdleConnections(IDLE_EVICTION)
+                .evictExpiredConnections()
+                .build();
+
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .additionalInterceptors(new TotalTimeoutInterceptor(client.getTotalTimeout()))
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package contest.mobicom_contest.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 외부 API(업스트림)별 HTTP 클라이언트 설정.
+ * connect-timeout 은 TCP 연결과 커넥션 풀 대기, read-timeout 은 소켓 read 하나,
+ * total-timeout 은 요청 시작부터 응답 본문을 다 읽을 때까지의 상한이다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http.clients")
+public class HttpClientProperties {
+
+    private Client law = new Client();
+    private Client openai = new Client();
+    private Client papago = new Client();
+
+    @Getter
+    @Setter
+    public static class Client {
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        private Duration readTimeout = Duration.ofSeconds(10);
+        private Duration totalTimeout = Duration.ofSeconds(30);
+        private int maxConnections = 10;
+    }
+}
@@ -0,0 +1,28 @@
+package contest.mobicom_contest.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 유료 외부 API(OpenAI, Papago)별 호출 한도.
+ * 분당 요청 수·토큰 수는 토큰 버킷으로, 동시 호출 수는 슬롯으로 제한하며 0 은 해당 한도 없음이다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limits")
+public class RateLimitProperties {
+
+    private Quota openai = new Quota();
+    private Quota papago = new Quota();
+
+    @Getter
+    @Setter
+    public static class Quota {
+        private int requestsPerMinute = 60;
+        private int tokensPerMinute = 0;
+        private int maxConcurrency = 4;
+        // 429 응답 시 Retry-After 만큼 쉬었다가 다시 줄을 서는 최대 횟수
+        private int maxThrottleRetries = 3;
+    }
+}
@@ -0,0 +1,23 @@
+package contest.mobicom_contest.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * S3 업로드 설정. multipart-threshold 이상(또는 크기를 모르는) 객체는 part-size 단위 멀티파트 업로드로
+ * part-concurrency 개까지 병렬 전송한다. 파트 버퍼는 buffers 개를 모든 업로드가 함께 쓰므로
+ * 업로드용 힙 사용량은 part-size × buffers 를 넘지 않는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cloud.aws.s3.upload")
+public class S3UploadProperties {
+
+    private DataSize multipartThreshold = DataSize.ofMegabytes(8);
+    // S3 는 마지막 파트를 제외하고 5MB 이상이어야 한다
+    private DataSize partSize = DataSize.ofMegabytes(5);
+    private int partConcurrency = 4;
+    private int buffers = 8;
+}
@@ -0,0 +1,110 @@
+package contest.mobicom_contest.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+
+/**
+ * 요청 전체에 걸리는 시간 상한. HttpClient 에는 read 단위 타임아웃만 있으므로,
+ * 응답 본문을 읽을 때마다 마감 시각을 확인해 넘으면 SocketTimeoutException 을 던진다.
+ * (read 하나는 read-timeout 으로 제한되므로 실제 상한은 total-timeout + read-timeout 이다.)
+ */
+class TotalTimeoutInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Duration totalTimeout;
+
+    TotalTimeoutInterceptor(Duration totalTimeout) {
+        this.totalTimeout = totalTimeout;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long deadline = System.nanoTime() + totalTimeout.toNanos();
+        ClientHttpResponse response = execution.execute(request, body);
+        if (System.nanoTime() - deadline > 0) {
+            response.close();
+            throw timeout(request);
+        }
+        return new DeadlineResponse(response, deadline, request);
+    }
+
+    private SocketTimeoutException timeout(HttpRequest request) {
+        return new SocketTimeoutException("전체 요청 시간 초과 (" + totalTimeout.toMillis() + "ms): "
+                + request.getURI().getHost());
+    }
+
+    private final class DeadlineResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final long deadline;
+        private final HttpRequest request;
+        private InputStream body;
+
+        private DeadlineResponse(ClientHttpResponse delegate, long deadline, HttpRequest request) {
+            this.delegate = delegate;
+            this.deadline = deadline;
+            this.request = request;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterInputStream(delegate.getBody()) {
+                    @Override
+                    public int read() throws IOException {
+                        checkDeadline();
+                        return super.read();
+                    }
+
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        checkDeadline();
+                        return super.read(b, off, len);
+                    }
+
+                    @Override
+                    public long skip(long n) throws IOException {
+                        checkDeadline();
+                        return super.skip(n);
+                    }
+                };
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        private void checkDeadline() throws SocketTimeoutException {
+            if (System.nanoTime() - deadline > 0) {
+                throw timeout(request);
+            }
+        }
+    }
+}
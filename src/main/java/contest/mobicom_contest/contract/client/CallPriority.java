@@ -0,0 +1,59 @@
+package contest.mobicom_contest.contract.client;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 유료 외부 API 호출의 우선순위. 사용자가 기다리는 분석(INTERACTIVE)이 백그라운드 작업보다 먼저 나간다.
+ * 호출 스레드 단위로 지정하며, 지정하지 않으면 INTERACTIVE 다. 다른 executor 로 넘기는 작업은 wrap 으로 감싸야
+ * 넘기는 쪽의 우선순위가 유지된다.
+ */
+public enum CallPriority {
+    INTERACTIVE,
+    BACKGROUND;
+
+    private static final ThreadLocal<CallPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    public static CallPriority current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callAs(CallPriority priority, Callable<T> call) throws Exception {
+        CallPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return call.call();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    public static void runAs(CallPriority priority, Runnable task) {
+        CallPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            task.run();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    // 만드는 시점의 우선순위를 캡처해, 어느 스레드에서 실행되든 그 우선순위로 실행한다
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        CallPriority priority = current();
+        return () -> {
+            CallPriority previous = CURRENT.get();
+            CURRENT.set(priority);
+            try {
+                return task.get();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public static Runnable wrap(Runnable task) {
+        CallPriority priority = current();
+        return () -> runAs(priority, task);
+    }
+}
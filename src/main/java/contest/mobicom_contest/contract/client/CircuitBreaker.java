@@ -0,0 +1,121 @@
+package contest.mobicom_contest.contract.client;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+/**
+ * 최근 windowSize 건의 호출 결과로 실패율을 계산하는 회로 차단기.
+ * CLOSED 에서 실패율이 임계치를 넘으면 OPEN 으로 바뀌어 openDuration 동안 호출을 바로 거절하고,
+ * 이후 HALF_OPEN 에서 halfOpenCalls 건의 시험 호출이 모두 성공하면 다시 CLOSED 가 된다.
+ */
+class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final BiConsumer<State, State> onTransition;
+
+    // 최근 호출 결과 링 버퍼 (true = 실패)
+    private final boolean[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration,
+                   int halfOpenCalls, BiConsumer<State, State> onTransition) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.onTransition = onTransition;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    // 호출해도 되는지 확인하고, HALF_OPEN 이면 시험 호출 자리를 하나 차지한다
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) return false;
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenCalls) return false;
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        switch (state) {
+            case HALF_OPEN -> {
+                halfOpenInFlight--;
+                if (++halfOpenSucceeded >= halfOpenCalls) {
+                    transition(State.CLOSED);
+                }
+            }
+            case CLOSED -> record(false);
+            // OPEN 이전에 시작된 호출의 늦은 결과는 무시
+            case OPEN -> { }
+        }
+    }
+
+    synchronized void onFailure() {
+        switch (state) {
+            case HALF_OPEN -> transition(State.OPEN);
+            case CLOSED -> {
+                record(true);
+                if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                    transition(State.OPEN);
+                }
+            }
+            case OPEN -> { }
+        }
+    }
+
+    // 업스트림 상태와 무관하게 끝난 호출 (4xx, 응답 형식 오류, 인터럽트 등): 시험 호출 자리만 반납
+    synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    private void record(boolean failed) {
+        if (recorded == windowSize) {
+            if (outcomes[next]) failures--;
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failed;
+        if (failed) failures++;
+        next = (next + 1) % windowSize;
+    }
+
+    private void transition(State to) {
+        State from = state;
+        state = to;
+        halfOpenInFlight = 0;
+        halfOpenSucceeded = 0;
+        if (to == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (to == State.CLOSED) {
+            recorded = 0;
+            next = 0;
+            failures = 0;
+        }
+        onTransition.accept(from, to);
+    }
+}
@@ -0,0 +1,180 @@
+package contest.mobicom_contest.contract.client;
+
+import contest.mobicom_contest.contract.exceptions.ImageTooLargeException;
+import org.springframework.core.io.InputStreamSource;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 업로드 이미지를 목표 크기 안으로 줄여 JPEG 로 다시 인코딩한다.
+ * 헤더에서 크기만 먼저 읽어 픽셀 한도를 확인하고, 디코딩 단계에서 소스 서브샘플링으로 목표 크기 근처까지만 읽으므로
+ * 원본 해상도의 BufferedImage 를 만들지 않는다. JPEG 의 EXIF 방향 값도 반영한다.
+ */
+final class ImageDownscaler {
+
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    private final int maxWidth;
+    private final int maxHeight;
+    private final long maxPixels;
+
+    ImageDownscaler(int maxWidth, int maxHeight, long maxPixels) {
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+        this.maxPixels = maxPixels;
+    }
+
+    byte[] toJpeg(InputStreamSource source) throws IOException {
+        int orientation;
+        try (InputStream in = source.getInputStream()) {
+            orientation = readExifOrientation(in);
+        }
+        boolean swapped = orientation >= 5 && orientation <= 8;
+
+        // ImageInputStream 을 닫아도 넘겨준 스트림은 닫히지 않으므로 따로 닫는다
+        try (InputStream in = source.getInputStream();
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = iis == null ? null : ImageIO.getImageReaders(iis);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new ImageTooLargeException(
+                            "이미지 해상도가 너무 큽니다: " + width + "x" + height + " (최대 " + maxPixels + " 픽셀)");
+                }
+
+                // 방향 보정 후 기준으로 목표 크기 안에 맞춘다 (확대는 하지 않음)
+                int orientedWidth = swapped ? height : width;
+                int orientedHeight = swapped ? width : height;
+                double scale = Math.min(1.0, Math.min((double) maxWidth / orientedWidth,
+                        (double) maxHeight / orientedHeight));
+                int outWidth = Math.max(1, (int) (orientedWidth * scale));
+                int outHeight = Math.max(1, (int) (orientedHeight * scale));
+
+                // 디코딩 결과가 최종 크기보다 작아지지 않는 가장 큰 정수 배율로 건너뛰며 읽는다
+                int subsampling = Math.max(1, (int) Math.floor(1.0 / scale));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                return encode(render(decoded, orientation, outWidth, outHeight, swapped));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage render(BufferedImage decoded, int orientation,
+                                        int outWidth, int outHeight, boolean swapped) {
+        BufferedImage out = new BufferedImage(outWidth, outHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            // 투명 영역은 JPEG 에서 검게 나오므로 흰 배경 위에 그린다
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, outWidth, outHeight);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.transform(orientationTransform(orientation, outWidth, outHeight));
+            g.drawImage(decoded, 0, 0, swapped ? outHeight : outWidth, swapped ? outWidth : outHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    // EXIF 방향 값(1~8)을 저장된 좌표 → 보이는 좌표 변환으로 바꾼다
+    private static AffineTransform orientationTransform(int orientation, int width, int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, width, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, width, height);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, height);
+            default -> new AffineTransform();
+        };
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트의 IFD0 에서 방향 값을 읽는다. JPEG 가 아니거나 값이 없으면 1(정방향).
+     * 이미지 데이터(SOS) 앞의 헤더 세그먼트만 읽는다.
+     */
+    static int readExifOrientation(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        try {
+            if (in.readUnsignedShort() != 0xFFD8) return 1;
+            while (true) {
+                int marker = in.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) return 1;
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0) return 1;
+                if (marker == 0xFFE1) {
+                    byte[] segment = new byte[length];
+                    in.readFully(segment);
+                    int orientation = parseExifOrientation(segment);
+                    if (orientation > 0) return orientation;
+                } else {
+                    in.skipNBytes(length);
+                }
+            }
+        } catch (EOFException e) {
+            return 1;
+        }
+    }
+
+    private static int parseExifOrientation(byte[] segment) {
+        // "Exif\0\0" 다음에 TIFF 헤더
+        if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i' || segment[3] != 'f') {
+            return 0;
+        }
+        int tiff = 6;
+        boolean littleEndian = segment[tiff] == 'I';
+        int ifd = tiff + readInt(segment, tiff + 4, littleEndian);
+        if (ifd < tiff || ifd + 2 > segment.length) return 0;
+        int entries = readShort(segment, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > segment.length) return 0;
+            if (readShort(segment, entry, littleEndian) == EXIF_ORIENTATION_TAG) {
+                int value = readShort(segment, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : 0;
+            }
+        }
+        return 0;
+    }
+
+    private static int readShort(byte[] b, int offset, boolean littleEndian) {
+        int b0 = b[offset] & 0xFF;
+        int b1 = b[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] b, int offset, boolean littleEndian) {
+        return littleEndian
+                ? (readShort(b, offset + 2, true) << 16) | readShort(b, offset, true)
+                : (readShort(b, offset, false) << 16) | readShort(b, offset + 2, false);
+    }
+}
@@ -0,0 +1,69 @@
+package contest.mobicom_contest.contract.client;
+
+import java.util.function.Consumer;
+
+/**
+ * {"issues": [ {...}, {...} ]} 형태의 JSON 을 조각 단위로 받아,
+ * 배열 안의 객체가 닫히는 즉시 그 객체의 원문 JSON 을 전달하는 증분 파서.
+ * 문자열 내부의 괄호·이스케이프는 구조로 취급하지 않는다.
+ */
+class IssueStreamParser {
+
+    private final Consumer<String> onObject;
+    private final StringBuilder current = new StringBuilder();
+    // 열린 컨테이너 종류 ('{' 또는 '[') 스택
+    private final StringBuilder containers = new StringBuilder();
+    private boolean inString;
+    private boolean escaped;
+    private int captureDepth = -1;
+
+    IssueStreamParser(Consumer<String> onObject) {
+        this.onObject = onObject;
+    }
+
+    void feed(CharSequence chunk) {
+        for (int i = 0; i < chunk.length(); i++) {
+            accept(chunk.charAt(i));
+        }
+    }
+
+    private void accept(char c) {
+        if (captureDepth >= 0) {
+            current.append(c);
+        }
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+            }
+            return;
+        }
+
+        switch (c) {
+            case '"' -> inString = true;
+            case '{', '[' -> {
+                // 최상위 객체 안의 배열(depth 2)에 들어 있는 객체부터 수집
+                if (c == '{' && captureDepth < 0 && containers.length() == 2 && containers.charAt(1) == '[') {
+                    captureDepth = containers.length();
+                    current.setLength(0);
+                    current.append(c);
+                }
+                containers.append(c);
+            }
+            case '}', ']' -> {
+                if (containers.isEmpty()) return;
+                containers.setLength(containers.length() - 1);
+                if (captureDepth >= 0 && containers.length() == captureDepth) {
+                    captureDepth = -1;
+                    onObject.accept(current.toString());
+                    current.setLength(0);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+}
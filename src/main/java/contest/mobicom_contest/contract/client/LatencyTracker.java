@@ -0,0 +1,39 @@
+package contest.mobicom_contest.contract.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 최근 성공 호출의 지연 시간을 고정 크기 링 버퍼에 모아 백분위수를 구한다.
+ * 표본이 minimumSamples 보다 적으면 값을 내지 않는다.
+ */
+class LatencyTracker {
+
+    private final long[] samples;
+    private final int minimumSamples;
+    private int count;
+    private int next;
+
+    LatencyTracker(int capacity, int minimumSamples) {
+        this.samples = new long[capacity];
+        this.minimumSamples = minimumSamples;
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) count++;
+    }
+
+    Optional<Duration> percentile(double percentile) {
+        long[] copy;
+        synchronized (this) {
+            if (count < minimumSamples) return Optional.empty();
+            copy = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(percentile * copy.length) - 1;
+        return Optional.of(Duration.ofNanos(copy[Math.max(0, index)]));
+    }
+}
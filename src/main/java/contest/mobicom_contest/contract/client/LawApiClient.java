@@ -1,12 +1,19 @@
 package contest.mobicom_contest.contract.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import contest.mobicom_contest.contract.dto.LawArticle;
+import contest.mobicom_contest.contract.dto.LawSearchHit;
 import contest.mobicom_contest.contract.model.Contract;
 import contest.mobicom_contest.law.model.LawInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
@@ -34,10 +41,23 @@ public class LawApiClient {
     @Value("${law.api.url.service}")
     private String lawServiceApiUrl;
 
+    @Qualifier("lawRestTemplate")
     private final RestTemplate restTemplate;
+    private final LawApiResilience resilience;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LawDetailParser lawDetailParser = new LawDetailParser(objectMapper.getFactory());
+
+    // 동시에 들어온 같은 검색(URL)·본문(MST) 요청은 한 번만 호출한다 (결과는 불변 목록)
+    private SingleFlight<String, List<LawSearchHit>> searches;
+    private SingleFlight<String, List<LawArticle>> details;
+
+    @PostConstruct
+    void initFlights() {
+        searches = new SingleFlight<>(meterRegistry.counter("upstream.coalesced", "call", "law.search"));
+        details = new SingleFlight<>(meterRegistry.counter("upstream.coalesced", "call", "law.detail"));
+    }
 
-    // ... (TARGET_MAP, QUERY_MAP, searchRelatedLaws, fetchLawDetailByApi, parseLawSearchJson 메서드는 기존과 동일)
     private static final Map<String, List<String>> TARGET_MAP = Map.of(
             "퇴직금", List.of("law"), "최저임금", List.of("law"),
             "근로시간", List.of("law"), "부당해고", List.of("law"),
@@ -48,120 +68,99 @@ public class LawApiClient {
             "퇴직금", "근로자퇴직급여 보장법", "부당해고", "근로기준법",
             "계약해지", "근로기준법"
     );
+    /**
+     * 이슈 유형을 실제 검색어(법령명)로 변환한다. 서로 다른 유형이 같은 법령으로 귀결될 수 있다.
+     */
+    public String resolveQuery(String issueType) {
+        return QUERY_MAP.getOrDefault(issueType, issueType);
+    }
+
+    /**
+     * 이슈 유형에 해당하는 법령 목록을 검색한다.
+     * 재시도 후에도 실패하거나 회로가 열려 있으면 LawApiException 을 던진다 (빈 목록과 구분하기 위함).
+     */
     public List<LawInfo> searchRelatedLaws(String issueType, Contract contract) {
-        String query = QUERY_MAP.getOrDefault(issueType, issueType);
-        List<LawInfo> allLaws = new ArrayList<>();
+        return searchRelatedLawHits(issueType).stream().map(hit -> hit.toLawInfo(contract)).toList();
+    }
+
+    /**
+     * searchRelatedLaws 와 같은 검색(TARGET_MAP 대상, 결과 3건)을 계약서 없이 실행한다. 워밍업이 분석과 같은 MST 를 받기 위해 쓴다.
+     */
+    public List<LawSearchHit> searchRelatedLawHits(String issueType) {
+        String query = resolveQuery(issueType);
+        List<LawSearchHit> allLaws = new ArrayList<>();
 
         for (String target : TARGET_MAP.getOrDefault(issueType, List.of("law"))) {
-            try {
-                String url = lawSearchApiUrl
-                        + "?ServiceKey=" + apiKey + "&OC=" + oc + "&target=" + target
-                        + "&query=" + URLEncoder.encode(query, StandardCharsets.UTF_8)
-                        + "&type=JSON" + "&numOfRows=3";
-
-                log.info("법령 목록 API 호출: {}", url);
-                String jsonResponse = restTemplate.getForObject(URI.create(url), String.class);
-                
-                if (jsonResponse != null) {
-                    allLaws.addAll(parseLawSearchJson(jsonResponse, contract));
-                }
-            } catch (Exception e) {
-                log.error("법령 목록 조회 실패 (target={}, 이슈={}): {}", target, issueType, e.getMessage());
-            }
+            String url = lawSearchApiUrl
+                    + "?ServiceKey=" + apiKey + "&OC=" + oc + "&target=" + target
+                    + "&query=" + URLEncoder.encode(query, StandardCharsets.UTF_8)
+                    + "&type=JSON" + "&numOfRows=3";
+
+            log.info("법령 목록 API 호출: {}", url);
+            allLaws.addAll(searches.execute(url, () -> resilience.execute("법령 목록 조회", () -> searchPage(url))));
         }
         return allLaws;
     }
-    public String fetchLawDetailByApi(String lawSerialNumber) {
-        if (lawSerialNumber == null || lawSerialNumber.isBlank()) return "";
-        try {
-            String url = lawServiceApiUrl
-                    + "?ServiceKey=" + apiKey + "&OC=" + oc + "&target=law"
-                    + "&MST=" + lawSerialNumber + "&type=JSON";
-
-            log.info("법령 본문 API 호출: {}", url);
-            String jsonResponse = restTemplate.getForObject(URI.create(url), String.class);
-
-            if (jsonResponse != null) {
-                return parseLawDetailJson(jsonResponse);
-            }
-        } catch (Exception e) {
-            log.error("법령 본문 조회 실패 (MST={}): {}", lawSerialNumber, e.getMessage());
-        }
-        return "";
-    }
-    private List<LawInfo> parseLawSearchJson(String json, Contract contract) throws Exception {
-        JsonNode root = objectMapper.readTree(json);
-        JsonNode lawNodes = root.path("LawSearch").path("law");
-        List<LawInfo> laws = new ArrayList<>();
-        if (lawNodes.isArray()) {
-            for (JsonNode node : lawNodes) {
-                laws.add(LawInfo.builder()
-                        .lawName(node.path("법령명한글").asText())
-                        .lawSerialNumber(node.path("법령일련번호").asText())
-                        .referenceNumber(node.path("공포번호").asText())
-                        .detailUrl(node.path("법령상세링크").asText())
-                        .contract(contract)
-                        .build());
-            }
-        }
-        return laws;
-    }
-
-
     /**
-     * [최종 수정] 여러 형태의 법령 본문 JSON 구조에 모두 대응하도록 수정
+     * 법령 카탈로그 적재용 목록 조회 (page 는 1부터, display 는 최대 100).
+     * 실패 시 LawApiException 을 던져 호출자가 갱신 중단 여부를 판단하게 한다.
      */
-    private String parseLawDetailJson(String json) throws Exception {
-        JsonNode root = objectMapper.readTree(json);
-        StringBuilder contentBuilder = new StringBuilder();
-        
-        JsonNode lawMainNode = root.path("법령");
-        
-        // 1. 조문 내용 추출 (핵심 법 조항)
-        JsonNode articleNodes = lawMainNode.path("조문");
-        if (articleNodes.has("조문단위") && articleNodes.get("조문단위").isArray()) {
-            // "조문": { "조문단위": [...] } 구조일 경우
-            articleNodes = articleNodes.path("조문단위");
-        }
-        
-        if (articleNodes.isArray()) {
-            for (JsonNode article : articleNodes) {
-                contentBuilder.append("【").append(article.path("조문제목").asText()).append("】\n");
-                contentBuilder.append(stripHtmlTags(article.path("조문내용").asText())).append("\n");
-
-                JsonNode clauseNodes = article.path("항");
-                if (clauseNodes.isArray()) {
-                    for (JsonNode clause : clauseNodes) {
-                        contentBuilder.append(stripHtmlTags(clause.path("항내용").asText())).append("\n");
-                    }
-                }
-                contentBuilder.append("\n");
-            }
-        }
+    public List<LawSearchHit> searchLawCatalogPage(String query, int page, int display) {
+        String url = lawSearchApiUrl
+                + "?ServiceKey=" + apiKey + "&OC=" + oc + "&target=law"
+                + "&query=" + URLEncoder.encode(query, StandardCharsets.UTF_8)
+                + "&type=JSON" + "&display=" + display + "&page=" + page;
+
+        log.info("법령 카탈로그 API 호출: query={}, page={}", query, page);
+        return searches.execute(url, () -> resilience.execute("법령 카탈로그 조회", () -> searchPage(url)));
+    }
 
-        // 2. 제개정 이유 추출
-        JsonNode reasonNode = lawMainNode.path("제개정이유").path("제개정이유내용");
-        if (reasonNode.isArray()) {
-            contentBuilder.append("--- 제·개정 이유 ---\n");
-            for (JsonNode lineArray : reasonNode) {
-                if(lineArray.isArray()){
-                    for(JsonNode line : lineArray){
-                        contentBuilder.append(line.asText()).append("\n");
-                    }
-                }
-            }
-        }
+    // 이슈 유형 → 검색어(법령명) 매핑
+    public Map<String, String> issueQueries() {
+        return QUERY_MAP;
+    }
 
-        if (contentBuilder.length() == 0) {
+    public List<LawArticle> fetchLawArticles(String lawSerialNumber) {
+        if (lawSerialNumber == null || lawSerialNumber.isBlank()) return List.of();
+        String url = lawServiceApiUrl
+                + "?ServiceKey=" + apiKey + "&OC=" + oc + "&target=law"
+                + "&MST=" + lawSerialNumber + "&type=JSON";
+
+        log.info("법령 본문 API 호출: {}", url);
+        // 수 MB 에 이르는 응답을 문자열·트리로 올리지 않고 스트림에서 바로 조문을 뽑는다
+        List<LawArticle> articles = details.execute(lawSerialNumber, () -> List.copyOf(resilience.execute(
+                "법령 본문 조회 (MST=" + lawSerialNumber + ")",
+                () -> restTemplate.execute(URI.create(url), HttpMethod.GET, null,
+                        response -> lawDetailParser.parse(response.getBody())))));
+        if (articles == null || articles.isEmpty()) {
             log.warn("API 응답에서 법령 본문 내용을 추출하지 못했습니다. JSON 구조를 확인해주세요.");
+            return List.of();
         }
+        return articles;
+    }
 
-        return contentBuilder.toString();
+    private List<LawSearchHit> searchPage(String url) throws JsonProcessingException {
+        String jsonResponse = restTemplate.getForObject(URI.create(url), String.class);
+        return jsonResponse == null ? List.of() : List.copyOf(parseLawSearchJson(jsonResponse));
     }
 
-    private String stripHtmlTags(String htmlText) {
-        if (htmlText == null) return "";
-        // <br/> 태그는 줄바꿈으로, 나머지 HTML 태그는 제거
-        return htmlText.replaceAll("<br/>", "\n").replaceAll("<[^>]*>", "");
+    private List<LawSearchHit> parseLawSearchJson(String json) throws JsonProcessingException {
+        JsonNode root = objectMapper.readTree(json);
+        JsonNode lawNodes = root.path("LawSearch").path("law");
+        List<LawSearchHit> laws = new ArrayList<>();
+        // 결과가 한 건이면 배열이 아닌 객체로 내려온다
+        if (lawNodes.isObject()) {
+            lawNodes = objectMapper.createArrayNode().add(lawNodes);
+        }
+        if (lawNodes.isArray()) {
+            for (JsonNode node : lawNodes) {
+                laws.add(new LawSearchHit(
+                        node.path("법령명한글").asText(),
+                        node.path("법령일련번호").asText(),
+                        node.path("공포번호").asText(),
+                        node.path("법령상세링크").asText()));
+            }
+        }
+        return laws;
     }
 }
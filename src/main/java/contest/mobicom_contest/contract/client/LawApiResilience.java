@@ -0,0 +1,258 @@
+package contest.mobicom_contest.contract.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import contest.mobicom_contest.contract.exceptions.LawApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * law.go.kr GET 호출 보호막: 회로 차단 → (선택) 헤지 요청 → 지수 백오프·지터 재시도.
+ * 일시적 오류(연결·타임아웃, 5xx, 429)만 재시도하고 회로 실패로 집계한다.
+ * 모든 실패는 LawApiException 으로 호출자에게 전달된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class LawApiResilience {
+
+    private final MeterRegistry meterRegistry;
+
+    // 헤지 요청을 띄울 스레드 (분석 fan-out 과 같은 가상 스레드 실행기)
+    @Qualifier("analysisExecutor")
+    private final ExecutorService hedgeExecutor;
+
+    @Value("${law.api.resilience.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${law.api.resilience.backoff.initial:200ms}")
+    private Duration initialBackoff;
+
+    @Value("${law.api.resilience.backoff.max:2s}")
+    private Duration maxBackoff;
+
+    @Value("${law.api.resilience.circuit.window-size:20}")
+    private int windowSize;
+
+    @Value("${law.api.resilience.circuit.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${law.api.resilience.circuit.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${law.api.resilience.circuit.open-duration:30s}")
+    private Duration openDuration;
+
+    @Value("${law.api.resilience.circuit.half-open-calls:2}")
+    private int halfOpenCalls;
+
+    // 호출이 최근 p95 지연을 넘기면 같은 요청을 한 번 더 보내 먼저 온 응답을 쓴다
+    @Value("${law.api.resilience.hedging.enabled:false}")
+    private boolean hedgingEnabled;
+
+    @Value("${law.api.resilience.hedging.min-delay:300ms}")
+    private Duration minHedgeDelay;
+
+    // 동시에 떠 있을 수 있는 헤지 요청 수 (호출자의 lawApiPermits 밖에서 나가는 추가 요청의 상한)
+    @Value("${law.api.resilience.hedging.max-in-flight:2}")
+    private int maxHedgesInFlight;
+
+    private CircuitBreaker circuitBreaker;
+    private final LatencyTracker latency = new LatencyTracker(200, 20);
+    private Counter retries;
+    private Counter rejected;
+    private Counter hedges;
+    private Counter hedgeWins;
+    private Semaphore hedgePermits;
+
+    @PostConstruct
+    void init() {
+        circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDuration,
+                halfOpenCalls, (from, to) -> {
+                    log.warn("법령 API 회로 상태 변경: {} -> {}", from, to);
+                    meterRegistry.counter("law.api.circuit.transitions", "from", from.name(), "to", to.name())
+                            .increment();
+                });
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder("law.api.circuit.state", circuitBreaker, breaker -> breaker.state() == state ? 1 : 0)
+                    .tag("state", state.name())
+                    .register(meterRegistry);
+        }
+        retries = meterRegistry.counter("law.api.calls", "result", "retry");
+        rejected = meterRegistry.counter("law.api.calls", "result", "rejected");
+        hedges = meterRegistry.counter("law.api.hedges", "result", "sent");
+        hedgeWins = meterRegistry.counter("law.api.hedges", "result", "won");
+        hedgePermits = new Semaphore(Math.max(0, maxHedgesInFlight));
+    }
+
+    <T> T execute(String operation, Callable<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                rejected.increment();
+                throw new LawApiException(operation + " 생략: 법령 API 회로 차단 중");
+            }
+            long started = System.nanoTime();
+            try {
+                T result = hedged(call);
+                latency.record(System.nanoTime() - started);
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (InterruptedException e) {
+                circuitBreaker.onIgnored();
+                Thread.currentThread().interrupt();
+                throw new LawApiException(operation + " 중단", e);
+            } catch (Exception e) {
+                if (!isTransient(e)) {
+                    circuitBreaker.onIgnored();
+                    throw new LawApiException(operation + " 실패: " + e.getMessage(), e);
+                }
+                circuitBreaker.onFailure();
+                if (attempt >= maxAttempts) {
+                    throw new LawApiException(operation + " 실패 (" + attempt + "회 시도): " + e.getMessage(), e);
+                }
+                retries.increment();
+                long backoff = backoffMillis(attempt);
+                log.info("{} 재시도 {}/{} ({}ms 후): {}", operation, attempt + 1, maxAttempts, backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new LawApiException(operation + " 중단", ie);
+                }
+            }
+        }
+    }
+
+    private <T> T hedged(Callable<T> call) throws Exception {
+        Optional<Duration> p95 = hedgingEnabled ? latency.percentile(0.95) : Optional.empty();
+        if (p95.isEmpty()) {
+            return call.call();
+        }
+        long delay = Math.max(p95.get().toNanos(), minHedgeDelay.toNanos());
+
+        Request<T> primary = submit(call);
+        Request<T> backup = null;
+        try {
+            try {
+                return primary.result().get(delay, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // 헤지도 회로 차단기의 호출 자리와 전체 헤지 한도 안에서만 보낸다. 없으면 원래 요청을 기다린다
+                backup = tryHedge(call);
+                if (backup == null) return primary.result().get();
+            }
+
+            // 먼저 성공한 응답을 쓰고, 둘 다 실패하면 나중 실패를 전달
+            CompletableFuture<T> first = new CompletableFuture<>();
+            AtomicInteger failed = new AtomicInteger();
+            primary.result().whenComplete((result, error) -> {
+                if (error == null) first.complete(result);
+                else if (failed.incrementAndGet() == 2) first.completeExceptionally(error);
+            });
+            backup.result().whenComplete((result, error) -> {
+                if (error == null) {
+                    if (first.complete(result)) hedgeWins.increment();
+                } else if (failed.incrementAndGet() == 2) {
+                    first.completeExceptionally(error);
+                }
+            });
+            return first.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            // 진 쪽 요청은 끝까지 기다리지 않고 중단한다 (이미 끝난 요청에는 영향 없음)
+            primary.cancel();
+            if (backup != null) {
+                backup.cancel();
+                // 결과는 execute 가 이긴 쪽(둘 다 실패하면 나중 실패) 기준으로 한 번만 회로에 반영한다.
+                // 헤지가 차지한 자리는 성공·실패 어느 쪽으로도 세지 않고 반납한다
+                circuitBreaker.onIgnored();
+            }
+        }
+    }
+
+    private <T> Request<T> tryHedge(Callable<T> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            return null;
+        }
+        if (!hedgePermits.tryAcquire()) {
+            circuitBreaker.onIgnored();
+            return null;
+        }
+        hedges.increment();
+        Request<T> backup = submit(call);
+        backup.result().whenComplete((result, error) -> hedgePermits.release());
+        return backup;
+    }
+
+    // 호출 스레드의 우선순위(CallPriority)를 요청 스레드에도 그대로 적용한다
+    private <T> Request<T> submit(Callable<T> call) {
+        CallPriority priority = CallPriority.current();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = hedgeExecutor.submit(() -> {
+            try {
+                result.complete(CallPriority.callAs(priority, call));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return new Request<>(result, task);
+    }
+
+    // 실행 중인 요청. 가상 스레드의 소켓 I/O 는 인터럽트로 중단되므로 cancel 이 HTTP 호출도 끊는다
+    private record Request<T>(CompletableFuture<T> result, Future<?> task) {
+        void cancel() {
+            if (result.isDone()) return;
+            task.cancel(true);
+            // 시작 전에 취소된 작업은 result 를 완료하지 않으므로 직접 완료한다
+            result.completeExceptionally(new CancellationException("먼저 끝난 요청이 있어 취소됨"));
+        }
+    }
+
+    private static Exception unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof Exception exception) return exception;
+        if (cause instanceof Error error) throw error;
+        return e;
+    }
+
+    // 연결 실패·타임아웃, 5xx, 429 만 일시적 오류로 본다. 응답 JSON 이 깨진 경우는 재시도해도 같으므로 제외.
+    private static boolean isTransient(Exception e) {
+        if (e instanceof ResourceAccessException) {
+            return !(e.getCause() instanceof JsonProcessingException);
+        }
+        return e instanceof HttpServerErrorException || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    // 지수 백오프 + equal jitter: [cap/2, cap] 구간에서 무작위
+    private long backoffMillis(int attempt) {
+        long cap = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        return cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
+    }
+}
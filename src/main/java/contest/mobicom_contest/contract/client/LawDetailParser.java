@@ -0,0 +1,258 @@
+package contest.mobicom_contest.contract.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import contest.mobicom_contest.contract.dto.LawArticle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * lawService.do 응답을 JsonNode 트리 없이 토큰 단위로 읽어 조문 목록을 만든다.
+ * "조문": [...] 과 "조문": { "조문단위": [...] } 두 구조를 모두 지원하고 항 아래의 호·목 내용도 차례로 붙이며,
+ * 조문 본문은 파서의 문자 버퍼에서 바로 HTML 태그를 걷어 내며 재사용 버퍼에 쓴다.
+ */
+class LawDetailParser {
+
+    private static final String REASON_TITLE = "제·개정 이유";
+    private static final String REASON_KEY = "제개정이유";
+
+    // 깊이별 항목 내용 필드와 하위 항목 필드 (항 → 호 → 목)
+    private static final String[] ITEM_CONTENT = {"항내용", "호내용", "목내용"};
+    private static final String[] ITEM_CHILDREN = {"호", "목"};
+
+    private final JsonFactory jsonFactory;
+
+    LawDetailParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    List<LawArticle> parse(InputStream body) throws IOException {
+        Buffers buffers = new Buffers();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return List.of();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_OBJECT && "법령".equals(name)) {
+                    readLaw(parser, buffers);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        // 제·개정 이유는 응답 내 위치와 상관없이 조문 뒤에 둔다
+        if (buffers.hasReason) {
+            buffers.articles.add(new LawArticle(REASON_KEY, REASON_TITLE, buffers.reason.toString()));
+        }
+        return buffers.articles;
+    }
+
+    private void readLaw(JsonParser parser, Buffers buffers) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("조문".equals(name) && value == JsonToken.START_ARRAY) {
+                readArticles(parser, buffers);
+            } else if ("조문".equals(name) && value == JsonToken.START_OBJECT) {
+                readArticleUnits(parser, buffers);
+            } else if ("제개정이유".equals(name) && value == JsonToken.START_OBJECT) {
+                readReason(parser, buffers);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    // "조문": { "조문단위": [...] } 구조
+    private void readArticleUnits(JsonParser parser, Buffers buffers) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("조문단위".equals(name) && value == JsonToken.START_ARRAY) {
+                readArticles(parser, buffers);
+            } else if ("조문단위".equals(name) && value == JsonToken.START_OBJECT) {
+                // 조문이 하나뿐이면 배열이 아닌 객체로 내려온다
+                readArticle(parser, buffers);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readArticles(JsonParser parser, Buffers buffers) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                readArticle(parser, buffers);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readArticle(JsonParser parser, Buffers buffers) throws IOException {
+        StringBuilder key = buffers.key;
+        StringBuilder number = buffers.number;
+        StringBuilder title = buffers.title;
+        StringBuilder body = buffers.body;
+        StringBuilder clauses = buffers.clauses;
+        key.setLength(0);
+        number.setLength(0);
+        title.setLength(0);
+        body.setLength(0);
+        clauses.setLength(0);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case "조문키" -> appendScalar(parser, key, false);
+                case "조문번호" -> appendScalar(parser, number, false);
+                case "조문제목" -> appendScalar(parser, title, false);
+                case "조문내용" -> appendScalar(parser, body, true);
+                case "항" -> readItems(parser, clauses, 0);
+                default -> parser.skipChildren();
+            }
+        }
+        body.append('\n').append(clauses);
+        buffers.articles.add(new LawArticle(articleKey(key, number, buffers.articles.size()),
+                title.toString(), body.toString()));
+    }
+
+    // 조문키가 없는 응답은 조문번호, 그것도 없으면 응답 내 순서로 구분한다
+    private static String articleKey(CharSequence key, CharSequence number, int index) {
+        if (!key.isEmpty()) return key.toString();
+        if (!number.isEmpty()) return "no:" + number;
+        return "#" + index;
+    }
+
+    // 항 → 호 → 목 순으로 중첩된 항목. 하나뿐이면 배열이 아닌 객체로 내려온다
+    private void readItems(JsonParser parser, StringBuilder clauses, int depth) throws IOException {
+        JsonToken value = parser.currentToken();
+        if (value == JsonToken.START_OBJECT) {
+            readItem(parser, clauses, depth);
+            return;
+        }
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                readItem(parser, clauses, depth);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readItem(JsonParser parser, StringBuilder clauses, int depth) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (ITEM_CONTENT[depth].equals(name)) {
+                appendScalar(parser, clauses, true);
+                clauses.append('\n');
+            } else if (depth + 1 < ITEM_CONTENT.length && ITEM_CHILDREN[depth].equals(name)) {
+                readItems(parser, clauses, depth + 1);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    // "제개정이유": { "제개정이유내용": [[ "줄", ... ], ...] }
+    private void readReason(JsonParser parser, Buffers buffers) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY || !"제개정이유내용".equals(name)) {
+                parser.skipChildren();
+                continue;
+            }
+            buffers.hasReason = true;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    if (token.isScalarValue()) {
+                        appendScalar(parser, buffers.reason, false);
+                        buffers.reason.append('\n');
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+    }
+
+    private static void appendScalar(JsonParser parser, StringBuilder out, boolean stripHtml) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            // 문자열을 만들지 않고 파서 내부 버퍼를 그대로 읽는다
+            char[] chars = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            int length = parser.getTextLength();
+            if (stripHtml) {
+                appendWithoutTags(chars, offset, length, out);
+            } else {
+                out.append(chars, offset, length);
+            }
+        } else if (token != null && token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+            out.append(parser.getText());
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    /**
+     * 한 번의 순회로 HTML 태그를 제거한다. &lt;br/&gt; 류는 줄바꿈으로 바꾸고,
+     * 닫히지 않은 '&lt;' 는 원문 그대로 둔다.
+     */
+    static void appendWithoutTags(char[] chars, int offset, int length, StringBuilder out) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+            if (c == '<') {
+                int close = i + 1;
+                while (close < end && chars[close] != '>') close++;
+                if (close < end) {
+                    if (isLineBreak(chars, i + 1, close)) {
+                        out.append('\n');
+                    }
+                    i = close;
+                    continue;
+                }
+            }
+            out.append(c);
+        }
+    }
+
+    private static boolean isLineBreak(char[] chars, int from, int to) {
+        int length = to - from;
+        if (length < 2 || length > 4) return false;
+        if (Character.toLowerCase(chars[from]) != 'b' || Character.toLowerCase(chars[from + 1]) != 'r') return false;
+        for (int i = from + 2; i < to; i++) {
+            if (chars[i] != '/' && chars[i] != ' ') return false;
+        }
+        return true;
+    }
+
+    // 한 응답을 파싱하는 동안 조문마다 재사용하는 버퍼
+    private static final class Buffers {
+        private final List<LawArticle> articles = new ArrayList<>();
+        private final StringBuilder key = new StringBuilder(16);
+        private final StringBuilder number = new StringBuilder(16);
+        private final StringBuilder title = new StringBuilder(64);
+        private final StringBuilder body = new StringBuilder(1024);
+        private final StringBuilder clauses = new StringBuilder(2048);
+        private final StringBuilder reason = new StringBuilder();
+        private boolean hasReason;
+    }
+}
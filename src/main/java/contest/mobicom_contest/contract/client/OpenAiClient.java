@@ -1,41 +1,87 @@
 package contest.mobicom_contest.contract.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import contest.mobicom_contest.contract.dto.Issue;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OpenAiClient {
 
+    // 호출 한도(토큰 버킷) 계산용 응답 토큰 추정치
+    private static final int COMPLETION_TOKENS = 512;
+    private static final int DETECTION_COMPLETION_TOKENS = 1500;
+
     @Value("${openai.api.key}")
     private String apiKey;
 
     @Value("${openai.api.url}")
     private String openaiApiUrl;
 
+    // 배치 번역 1회 요청에 담을 원문 토큰 추정치 상한 (초과 시 여러 요청으로 분할)
+    @Value("${openai.translation.batch-token-budget:3000}")
+    private int batchTokenBudget;
+
+    @Qualifier("openAiRestTemplate")
     private final RestTemplate restTemplate;
+    private final TranslationCache translationCache;
+    private final RateScheduler rateScheduler;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper = new ObjectMapper()
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
+    private SingleFlight<TranslationKey, String> translations;
+
+    @PostConstruct
+    void initFlights() {
+        translations = new SingleFlight<>(meterRegistry.counter("upstream.coalesced", "call", "openai.translate"));
+    }
+
     public List<Issue> detectUnfairClauses(String text) throws Exception {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + apiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        return detectUnfairClauses(text, issue -> {
+        });
+    }
+
+    /**
+     * stream 모드로 이슈를 감지하면서, 응답 중 issues 배열의 각 객체가 완성되는 즉시 onIssue 로 전달한다.
+     * onIssue 는 응답을 읽는 현재 스레드에서 호출되며, 반환 목록에는 같은 Issue 인스턴스가 같은 순서로 담긴다.
+     */
+    public List<Issue> detectUnfairClauses(String text, Consumer<Issue> onIssue) throws Exception {
+        return detectUnfairClauses(text, List.of(), onIssue);
+    }
 
+    /**
+     * knownIssues 는 로컬 규칙 등으로 이미 확인된 이슈로, 같은 조항은 응답에서 제외하도록 안내해 응답 길이를 줄인다.
+     * 같은 유형이라도 다른 조항의 문제는 계속 찾도록 한다.
+     */
+    public List<Issue> detectUnfairClauses(String text, List<Issue> knownIssues, Consumer<Issue> onIssue)
+            throws Exception {
         ObjectNode message1 = objectMapper.createObjectNode();
         message1.put("role", "system");
         message1.put("content", """
@@ -57,39 +103,134 @@ public class OpenAiClient {
         message2.put("role", "user");
         message2.put("content", text);
 
+        ArrayNode messages = objectMapper.createArrayNode().add(message1);
+        if (!knownIssues.isEmpty()) {
+            StringBuilder known = new StringBuilder(
+                    "다음 이슈는 이미 확인되었으므로 같은 조항에 대한 이슈는 응답에서 제외하세요. "
+                            + "같은 유형이라도 다른 조항의 문제는 포함하세요:");
+            knownIssues.forEach(issue -> known.append("\n- ").append(issue.getType()).append(": ").append(issue.getEvidence()));
+            ObjectNode hint = objectMapper.createObjectNode();
+            hint.put("role", "system");
+            hint.put("content", known.toString());
+            messages.add(hint);
+        }
+        messages.add(message2);
+
         ObjectNode requestBody = objectMapper.createObjectNode();
         requestBody.put("model", "gpt-4o");
-        requestBody.set("messages", objectMapper.createArrayNode().add(message1).add(message2));
+        requestBody.set("messages", messages);
         requestBody.put("temperature", 0.2);
+        requestBody.put("stream", true);
 
         ObjectNode responseFormat = objectMapper.createObjectNode();
         responseFormat.put("type", "json_object");
         requestBody.set("response_format", responseFormat);
 
-        HttpEntity<String> entity = new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
-        ResponseEntity<String> response = restTemplate.exchange(openaiApiUrl, HttpMethod.POST, entity, String.class);
+        byte[] body = objectMapper.writeValueAsBytes(requestBody);
+        List<Issue> issues = new ArrayList<>();
+        IssueStreamParser parser = new IssueStreamParser(json -> {
+            try {
+                Issue issue = objectMapper.readValue(json, Issue.class);
+                issues.add(issue);
+                onIssue.accept(issue);
+            } catch (JsonProcessingException e) {
+                log.error("이슈 객체 파싱 실패: {}", json, e);
+            }
+        });
+
+        // 스트림을 다 읽을 때까지 동시 호출 슬롯을 잡고 있는다
+        rateScheduler.call(RateScheduler.Upstream.OPENAI, estimateTokens(text) + DETECTION_COMPLETION_TOKENS,
+                () -> restTemplate.execute(openaiApiUrl, HttpMethod.POST, request -> {
+                    request.getHeaders().set("Authorization", "Bearer " + apiKey);
+                    request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                    request.getBody().write(body);
+                }, response -> {
+                    readCompletionStream(response.getBody(), parser);
+                    return null;
+                }));
+        return issues;
+    }
 
-        if (response.getStatusCode() == HttpStatus.OK) {
-            JsonNode jsonNode = parseJson(response.getBody());
-            return extractIssues(jsonNode);
-        } else {
-            throw new Exception("OpenAI 요청 실패: " + response.getStatusCode());
+    // SSE 형식의 chat completion 스트림에서 delta.content 조각을 꺼내 파서에 전달
+    private void readCompletionStream(InputStream stream, IssueStreamParser parser) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith("data:")) continue;
+            String data = line.substring(5).trim();
+            if ("[DONE]".equals(data)) break;
+            JsonNode choices = objectMapper.readTree(data).path("choices");
+            if (choices.isArray() && !choices.isEmpty()) {
+                JsonNode content = choices.get(0).path("delta").path("content");
+                if (content.isTextual()) {
+                    parser.feed(content.asText());
+                }
+            }
         }
     }
 
     public String translateText(String text, String targetLanguage) {
+        Optional<String> cached = translationCache.get(text, targetLanguage);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        // 같은 문구·언어의 번역이 진행 중이면 그 결과를 함께 기다린다 (배포 직후 법령명 번역 폭주 방지)
+        return translations.execute(new TranslationKey(text, targetLanguage),
+                () -> translationCache.get(text, targetLanguage)
+                        .orElseGet(() -> requestTranslation(text, targetLanguage)));
+    }
+
+    private String requestTranslation(String text, String targetLanguage) {
         String prompt = String.format("""
             당신은 다국어 번역 전문가입니다. 다음 텍스트를 %s(으)로 최대한 자연스럽고 정확하게 번역해주세요. 다른 설명 없이 번역 결과만 응답해주세요.
             
             --- 원문 ---
             %s
             """, targetLanguage, text);
-        return getGptResponse(prompt);
+        String translated = getGptResponse(prompt);
+        translationCache.put(text, targetLanguage, translated);
+        return translated;
+    }
+
+    /**
+     * 여러 문자열을 JSON 모드 요청 한 번(토큰 상한 초과 시 여러 번)으로 번역한다.
+     * 결과는 입력과 같은 순서이며, 비어 있는 문자열은 그대로 반환하고
+     * 배치 응답에서 누락된 항목은 translateText 로 개별 번역한다. 번역 캐시에 있는 항목은 요청에서 제외한다.
+     */
+    public List<String> translateAll(List<String> texts, String targetLanguage) {
+        List<String> results = new ArrayList<>(texts);
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            if (text == null || text.isBlank()) continue;
+            Optional<String> cached = translationCache.get(text, targetLanguage);
+            if (cached.isPresent()) {
+                results.set(i, cached.get());
+            } else {
+                pending.add(i);
+            }
+        }
+
+        for (List<Integer> chunk : splitByTokenBudget(texts, pending)) {
+            Map<Integer, String> translated = translateBatch(texts, chunk, targetLanguage);
+            for (Integer index : chunk) {
+                String value = translated.get(index);
+                if (value != null) {
+                    translationCache.put(texts.get(index), targetLanguage, value);
+                    results.set(index, value);
+                } else {
+                    results.set(index, translateText(texts.get(index), targetLanguage));
+                }
+            }
+        }
+        return results;
     }
 
     public String summarizeAndTranslate(String text, String targetLanguage) {
         String prompt = String.format("""
             당신은 법률 문서를 일반인이 이해하기 쉽게 설명하는 전문가입니다.
+            아래 '법률 원문'은 근로계약서의 쟁점과 관련된 조문만 발췌한 것입니다.
             당신의 임무는 아래 '법률 원문'의 핵심 내용을 먼저 한국어로 2-4문장으로 요약한 뒤, 그 요약문을 오직 '%s' 언어로만 번역하여 최종 결과를 제공하는 것입니다.
             최종 응답에는 번역된 요약문만 포함해야 하며, 다른 언어나 설명은 절대 추가하지 마세요.
             
@@ -118,7 +259,9 @@ public class OpenAiClient {
             requestBody.put("temperature", 0.2);
 
             HttpEntity<String> entity = new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(openaiApiUrl, entity, String.class);
+            ResponseEntity<String> response = rateScheduler.call(RateScheduler.Upstream.OPENAI,
+                    estimateTokens(prompt) + COMPLETION_TOKENS,
+                    () -> restTemplate.postForEntity(openaiApiUrl, entity, String.class));
 
             JsonNode root = objectMapper.readTree(response.getBody());
             return root.path("choices").get(0).path("message").path("content").asText();
@@ -128,33 +271,82 @@ public class OpenAiClient {
         }
     }
 
-    private JsonNode parseJson(String responseBody) {
+    private Map<Integer, String> translateBatch(List<String> texts, List<Integer> indexes, String targetLanguage) {
+        Map<Integer, String> translated = new HashMap<>();
         try {
-            return objectMapper.readTree(responseBody);
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Authorization", "Bearer " + apiKey);
+            headers.setContentType(MediaType.APPLICATION_JSON);
+
+            ArrayNode items = objectMapper.createArrayNode();
+            for (Integer index : indexes) {
+                items.addObject().put("id", index).put("text", texts.get(index));
+            }
+
+            ObjectNode message1 = objectMapper.createObjectNode();
+            message1.put("role", "system");
+            message1.put("content", String.format("""
+                당신은 다국어 번역 전문가입니다. 사용자가 보낸 JSON의 items 각각의 text 를 %s(으)로 자연스럽고 정확하게 번역하세요.
+                반드시 아래 형식의 JSON 객체만 응답하고, id 는 입력 값을 그대로 사용하세요. 다른 설명은 절대 추가하지 마세요.
+                {
+                  "translations": [
+                    { "id": 0, "text": "번역 결과" }
+                  ]
+                }
+                """, targetLanguage));
+
+            ObjectNode message2 = objectMapper.createObjectNode();
+            message2.put("role", "user");
+            message2.put("content", objectMapper.writeValueAsString(objectMapper.createObjectNode().set("items", items)));
+
+            ObjectNode requestBody = objectMapper.createObjectNode();
+            requestBody.put("model", "gpt-4o");
+            requestBody.set("messages", objectMapper.createArrayNode().add(message1).add(message2));
+            requestBody.put("temperature", 0.2);
+            requestBody.set("response_format", objectMapper.createObjectNode().put("type", "json_object"));
+
+            // 번역 결과는 원문과 비슷한 길이이므로 요청 토큰의 두 배로 추정
+            int tokens = indexes.stream().mapToInt(index -> estimateTokens(texts.get(index))).sum() * 2;
+            HttpEntity<String> entity = new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
+            ResponseEntity<String> response = rateScheduler.call(RateScheduler.Upstream.OPENAI, tokens,
+                    () -> restTemplate.postForEntity(openaiApiUrl, entity, String.class));
+
+            JsonNode root = objectMapper.readTree(response.getBody());
+            String content = cleanJsonContent(root.path("choices").get(0).path("message").path("content").asText());
+            for (JsonNode node : objectMapper.readTree(content).path("translations")) {
+                if (node.hasNonNull("id") && node.hasNonNull("text")) {
+                    translated.put(node.get("id").asInt(), node.get("text").asText());
+                }
+            }
         } catch (Exception e) {
-            throw new RuntimeException("JSON 파싱 오류", e);
+            log.error("GPT 배치 번역 실패 ({}건), 개별 번역으로 대체합니다: {}", indexes.size(), e.getMessage());
         }
+        return translated;
     }
 
-    private List<Issue> extractIssues(JsonNode root) {
-        List<Issue> issues = new ArrayList<>();
-        try {
-            JsonNode choices = root.path("choices");
-            if (!choices.isArray() || choices.isEmpty()) return issues;
-            String content = choices.get(0).path("message").path("content").asText();
-            if (content == null || content.isEmpty()) return issues;
-            content = cleanJsonContent(content);
-            JsonNode issuesRoot = objectMapper.readTree(content);
-            JsonNode issuesNode = issuesRoot.path("issues");
-            if (issuesNode.isArray()) {
-                for (JsonNode issueNode : issuesNode) {
-                    issues.add(objectMapper.treeToValue(issueNode, Issue.class));
-                }
+    private List<List<Integer>> splitByTokenBudget(List<String> texts, List<Integer> indexes) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        List<Integer> current = new ArrayList<>();
+        int currentTokens = 0;
+        for (Integer index : indexes) {
+            int tokens = estimateTokens(texts.get(index));
+            if (!current.isEmpty() && currentTokens + tokens > batchTokenBudget) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
             }
-        } catch (Exception e) {
-            log.error("이슈 추출 중 JSON 파싱 실패", e);
+            current.add(index);
+            currentTokens += tokens;
         }
-        return issues;
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    // 한글은 대략 글자당 1토큰 이상이므로 글자 수 + 항목별 JSON 오버헤드로 보수적으로 추정
+    private int estimateTokens(String text) {
+        return text.length() + 10;
     }
 
     private String cleanJsonContent(String content) {
@@ -167,4 +359,7 @@ public class OpenAiClient {
         }
         return content;
     }
+
+    private record TranslationKey(String text, String targetLanguage) {
+    }
 }
@@ -1,7 +1,13 @@
 package contest.mobicom_contest.contract.client;
 
+import contest.mobicom_contest.contract.exceptions.ImageProcessingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
@@ -10,18 +16,25 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import java.awt.image.BufferedImage;
-import java.awt.*;
-import java.io.ByteArrayOutputStream;
-import javax.imageio.ImageIO;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
 public class PapagoClient {
 
+    // Papago 이미지 번역에 보내는 A4 세로 비율 크기 (1960 / √2 ≈ 1386)
+    private static final int A4_HEIGHT = 1960;
+    private static final int A4_WIDTH = (int) Math.round(A4_HEIGHT / Math.sqrt(2));
+
     @Value("${papago.api.client-id}")
     private String clientId;
 
@@ -31,7 +44,36 @@ public class PapagoClient {
     @Value("${papago.api.url}")
     private String papagoApiUrl;
 
+    // 디코딩 전에 헤더 크기로 거절할 최대 픽셀 수 (압축 폭탄 방지)
+    @Value("${papago.image.max-pixels:40000000}")
+    private long maxPixels;
+
+    // 이미지 처리 풀이 가득 찼을 때 클라이언트에 알려 줄 재시도 대기 시간
+    @Value("${papago.image.retry-after:2s}")
+    private Duration imageRetryAfter;
+
+    @Qualifier("papagoRestTemplate")
     private final RestTemplate restTemplate;
+    private final RateScheduler rateScheduler;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("imageExecutor")
+    private final ThreadPoolExecutor imageExecutor;
+
+    private ImageDownscaler downscaler;
+    private Timer imageWait;
+    private Timer imageProcessing;
+    private Counter imageRejected;
+
+    @PostConstruct
+    void init() {
+        downscaler = new ImageDownscaler(A4_WIDTH, A4_HEIGHT, maxPixels);
+        meterRegistry.gauge("image.processing.queue", imageExecutor, executor -> executor.getQueue().size());
+        meterRegistry.gauge("image.processing.active", imageExecutor, ThreadPoolExecutor::getActiveCount);
+        imageWait = meterRegistry.timer("image.processing.wait");
+        imageProcessing = meterRegistry.timer("image.processing");
+        imageRejected = meterRegistry.counter("image.processing.rejected");
+    }
 
     public JSONObject translateImage(MultipartFile file, String sourceLanguage, String targetLanguage) throws Exception {
         byte[] resizedImageBytes = resizeImageToA4Portrait(file);
@@ -55,12 +97,13 @@ public class PapagoClient {
 
         HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
-        ResponseEntity<String> response = restTemplate.exchange(
-                papagoApiUrl,
-                HttpMethod.POST,
-                requestEntity,
-                String.class
-        );
+        ResponseEntity<String> response = rateScheduler.call(RateScheduler.Upstream.PAPAGO, 1,
+                () -> restTemplate.exchange(
+                        papagoApiUrl,
+                        HttpMethod.POST,
+                        requestEntity,
+                        String.class
+                ));
 
         if (response.getStatusCode() == HttpStatus.OK) {
             return new JSONObject(response.getBody());
@@ -78,35 +121,37 @@ public class PapagoClient {
         return response.getJSONObject("data").getString("sourceText");
     }
 
-    public byte[] resizeImageToA4Portrait(MultipartFile file) throws IOException, IOException {
-        BufferedImage originalImage = ImageIO.read(file.getInputStream());
-        int originalWidth = originalImage.getWidth();
-        int originalHeight = originalImage.getHeight();
-
-        int targetHeight = 1960;
-        int targetWidth = (int) Math.round(targetHeight / Math.sqrt(2)); // 약 1386
-
-        if (originalWidth <= targetWidth && originalHeight <= targetHeight) {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ImageIO.write(originalImage, "jpg", baos);
-            return baos.toByteArray();
+    /**
+     * 이미지 축소는 imageExecutor 에서 실행한다. 풀과 대기열이 모두 차 있으면 ImageProcessingBusyException.
+     */
+    public byte[] resizeImageToA4Portrait(MultipartFile file) throws IOException {
+        long queued = System.nanoTime();
+        Future<byte[]> task;
+        try {
+            task = imageExecutor.submit(() -> {
+                long started = System.nanoTime();
+                imageWait.record(started - queued, TimeUnit.NANOSECONDS);
+                try {
+                    return downscaler.toJpeg(file);
+                } finally {
+                    imageProcessing.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            imageRejected.increment();
+            throw new ImageProcessingBusyException(Math.max(1, imageRetryAfter.toSeconds()));
         }
 
-        double widthRatio = (double) targetWidth / originalWidth;
-        double heightRatio = (double) targetHeight / originalHeight;
-        double scale = Math.min(widthRatio, heightRatio);
-
-        int newWidth = (int) (originalWidth * scale);
-        int newHeight = (int) (originalHeight * scale);
-
-        BufferedImage resizedImage = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_RGB);
-        Graphics2D g = resizedImage.createGraphics();
-        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-        g.drawImage(originalImage, 0, 0, newWidth, newHeight, null);
-        g.dispose();
-
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ImageIO.write(resizedImage, "jpg", baos);
-        return baos.toByteArray();
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("이미지 처리 대기 중 중단됨");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IOException("이미지 처리 실패", e.getCause());
+        }
     }
 }
@@ -0,0 +1,251 @@
+package contest.mobicom_contest.contract.client;
+
+import contest.mobicom_contest.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * OpenAI·Papago 호출이 모두 거쳐 가는 전역 스케줄러.
+ * 업스트림마다 분당 요청/토큰 버킷과 동시 호출 슬롯을 두고, 호출자는 (우선순위, 도착 순) 대기열에서
+ * 차례를 기다린다. 한도를 넘은 호출은 실패시키지 않고 기다리게 하며, 429 를 받으면
+ * Retry-After 동안 해당 업스트림 전체를 멈춘 뒤 다시 줄을 세운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class RateScheduler {
+
+    enum Upstream { OPENAI, PAPAGO }
+
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(2);
+    private static final Duration MAX_RETRY_AFTER = Duration.ofSeconds(60);
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Upstream, Limiter> limiters = new EnumMap<>(Upstream.class);
+    private final Map<Upstream, Counter> throttled = new EnumMap<>(Upstream.class);
+
+    @PostConstruct
+    void init() {
+        register(Upstream.OPENAI, properties.getOpenai());
+        register(Upstream.PAPAGO, properties.getPapago());
+    }
+
+    private void register(Upstream upstream, RateLimitProperties.Quota quota) {
+        Limiter limiter = new Limiter(quota);
+        limiters.put(upstream, limiter);
+        String name = upstream.name().toLowerCase();
+        meterRegistry.gauge("upstream.rate.queue", Tags.of("upstream", name),
+                limiter, Limiter::queued);
+        meterRegistry.gauge("upstream.rate.in-flight", Tags.of("upstream", name),
+                limiter, Limiter::inFlight);
+        throttled.put(upstream, meterRegistry.counter("upstream.rate.throttled", "upstream", name));
+    }
+
+    /**
+     * 차례가 오면 call 을 실행한다. tokens 는 요청+응답 토큰 추정치로, 토큰 한도가 없는 업스트림에서는 무시된다.
+     */
+    <T> T call(Upstream upstream, int tokens, Callable<T> call) throws Exception {
+        Limiter limiter = limiters.get(upstream);
+        CallPriority priority = CallPriority.current();
+        for (int attempt = 0; ; attempt++) {
+            long started = System.nanoTime();
+            limiter.acquire(tokens, priority);
+            meterRegistry.timer("upstream.rate.wait", "upstream", upstream.name().toLowerCase(),
+                    "priority", priority.name()).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            try {
+                return call.call();
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                throttled.get(upstream).increment();
+                Duration pause = retryAfter(e.getResponseHeaders());
+                limiter.pause(pause);
+                if (attempt >= limiter.maxThrottleRetries) throw e;
+                log.warn("{} 호출 한도 초과(429), {}ms 후 다시 대기열에 넣습니다 ({}/{})",
+                        upstream, pause.toMillis(), attempt + 1, limiter.maxThrottleRetries);
+            } finally {
+                limiter.release();
+            }
+        }
+    }
+
+    // OpenAI 는 retry-after-ms, 일반적으로는 Retry-After(초 또는 HTTP 날짜)를 준다
+    private static Duration retryAfter(HttpHeaders headers) {
+        Duration pause = DEFAULT_RETRY_AFTER;
+        if (headers != null) {
+            try {
+                String millis = headers.getFirst("retry-after-ms");
+                String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+                if (millis != null) {
+                    pause = Duration.ofMillis((long) Double.parseDouble(millis));
+                } else if (value != null && value.chars().allMatch(Character::isDigit)) {
+                    pause = Duration.ofSeconds(Long.parseLong(value));
+                } else if (value != null) {
+                    pause = Duration.ofMillis(headers.getFirstDate(HttpHeaders.RETRY_AFTER) - System.currentTimeMillis());
+                }
+            } catch (IllegalArgumentException e) {
+                log.debug("Retry-After 해석 실패: {}", e.getMessage());
+            }
+        }
+        if (pause.isNegative()) return Duration.ZERO;
+        return pause.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : pause;
+    }
+
+    /**
+     * 업스트림 하나의 토큰 버킷 두 개(요청·토큰)와 동시 호출 슬롯.
+     * 대기열의 맨 앞 호출자만 버킷을 확인하므로, 뒤에 선 호출자가 먼저 빠져나가는 일은 없다.
+     */
+    private static final class Limiter {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+                Comparator.comparing(Waiter::priority).thenComparingLong(Waiter::sequence));
+
+        private final double requestCapacity;
+        private final double requestsPerNano;
+        private final double tokenCapacity;
+        private final double tokensPerNano;
+        private final int maxConcurrency;
+        private final int maxThrottleRetries;
+
+        private double requests;
+        private double tokens;
+        private long refilledAt;
+        private long pausedUntil;
+        private int inFlight;
+        private long sequence;
+
+        private Limiter(RateLimitProperties.Quota quota) {
+            this.requestCapacity = quota.getRequestsPerMinute();
+            this.requestsPerNano = quota.getRequestsPerMinute() / 60e9;
+            this.tokenCapacity = quota.getTokensPerMinute();
+            this.tokensPerNano = quota.getTokensPerMinute() / 60e9;
+            this.maxConcurrency = quota.getMaxConcurrency() > 0 ? quota.getMaxConcurrency() : Integer.MAX_VALUE;
+            this.maxThrottleRetries = quota.getMaxThrottleRetries();
+            this.requests = requestCapacity;
+            this.tokens = tokenCapacity;
+            this.refilledAt = System.nanoTime();
+            this.pausedUntil = refilledAt;
+        }
+
+        void acquire(int estimatedTokens, CallPriority priority) throws InterruptedException {
+            // 버킷 용량보다 큰 요청도 언젠가는 통과하도록 용량으로 자른다
+            double cost = tokenCapacity > 0 ? Math.min(estimatedTokens, tokenCapacity) : 0;
+            lock.lock();
+            try {
+                Waiter me = new Waiter(priority, sequence++, lock.newCondition());
+                waiters.add(me);
+                try {
+                    while (true) {
+                        long wait = waiters.peek() == me ? waitNanos(cost) : -1;
+                        if (wait == 0) {
+                            waiters.poll();
+                            if (requestCapacity > 0) requests -= 1;
+                            tokens -= cost;
+                            inFlight++;
+                            signalHead();
+                            return;
+                        }
+                        if (wait > 0) {
+                            me.condition().awaitNanos(wait);
+                        } else {
+                            me.condition().await();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    waiters.remove(me);
+                    signalHead();
+                    throw e;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void release() {
+            lock.lock();
+            try {
+                inFlight--;
+                signalHead();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void pause(Duration duration) {
+            lock.lock();
+            try {
+                long until = System.nanoTime() + duration.toNanos();
+                if (until - pausedUntil > 0) pausedUntil = until;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int queued() {
+            lock.lock();
+            try {
+                return waiters.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int inFlight() {
+            lock.lock();
+            try {
+                return inFlight;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 0: 지금 통과, 양수: 그만큼 기다리면 통과 가능, 음수: 진행 중인 호출이 끝나야 함
+        private long waitNanos(double cost) {
+            long now = System.nanoTime();
+            refill(now);
+            if (inFlight >= maxConcurrency) return -1;
+            double wait = Math.max(0, pausedUntil - now);
+            if (requestCapacity > 0 && requests < 1) {
+                wait = Math.max(wait, (1 - requests) / requestsPerNano);
+            }
+            if (tokenCapacity > 0 && tokens < cost) {
+                wait = Math.max(wait, (cost - tokens) / tokensPerNano);
+            }
+            return wait == 0 ? 0 : Math.max(1, (long) Math.ceil(wait));
+        }
+
+        private void refill(long now) {
+            long elapsed = now - refilledAt;
+            refilledAt = now;
+            requests = Math.min(requestCapacity, requests + elapsed * requestsPerNano);
+            tokens = Math.min(tokenCapacity, tokens + elapsed * tokensPerNano);
+        }
+
+        private void signalHead() {
+            Waiter head = waiters.peek();
+            if (head != null) {
+                head.condition().signal();
+            }
+        }
+    }
+
+    private record Waiter(CallPriority priority, long sequence, Condition condition) {
+    }
+}
@@ -1,48 +1,209 @@
 package contest.mobicom_contest.contract.client;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import contest.mobicom_contest.config.S3UploadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
-
+/**
+ * S3 업로드. 작은 객체는 한 번의 PUT 으로 스트리밍하고, 큰 객체는 멀티파트 업로드로 파트를 병렬 전송한다.
+ * 업로드 파일은 Tomcat 임시 파일에서 파트 크기만큼씩 읽어 공유 버퍼 풀에 담으므로 서버 메모리에 전체가 올라가지 않는다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Uploader {
 
+    // S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+    private static final long MIN_PART_SIZE = DataSize.ofMegabytes(5).toBytes();
+
     private final AmazonS3 amazonS3;
+    private final S3UploadProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("s3UploadExecutor")
+    private final ExecutorService s3UploadExecutor;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
-    public String uploadFile(MultipartFile multipartFile, String dirName) throws IOException {
-        String fileName = dirName + "/" + UUID.randomUUID() + "_" + multipartFile.getOriginalFilename();
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(multipartFile.getSize());
-        metadata.setContentType(multipartFile.getContentType());
+    private BufferPool buffers;
 
-        amazonS3.putObject(bucket, fileName, multipartFile.getInputStream(), metadata);
-        return amazonS3.getUrl(bucket, fileName).toString();
+    @PostConstruct
+    void init() {
+        int partSize = (int) Math.max(MIN_PART_SIZE, properties.getPartSize().toBytes());
+        buffers = new BufferPool(partSize, Math.max(1, properties.getBuffers()));
     }
 
+    public String uploadFile(MultipartFile multipartFile, String dirName) throws IOException {
+        String fileName = objectKey(dirName, multipartFile.getOriginalFilename());
+        try (InputStream in = multipartFile.getInputStream()) {
+            put(fileName, in, multipartFile.getSize(), multipartFile.getContentType());
+        }
+        return urlFor(fileName);
+    }
 
     public String uploadBytes(byte[] bytes, String dirName, String fileName) {
-        String fullFileName = dirName + "/" + UUID.randomUUID() + "_" + fileName;
+        String fullFileName = objectKey(dirName, fileName);
+        try {
+            put(fullFileName, new ByteArrayInputStream(bytes), bytes.length, "image/jpeg");
+        } catch (IOException e) {
+            throw new IllegalStateException("S3 업로드 실패: " + fullFileName, e);
+        }
+        return urlFor(fullFileName);
+    }
+
+    public String objectKey(String dirName, String fileName) {
+        return dirName + "/" + UUID.randomUUID() + "_" + fileName;
+    }
+
+    // 키만으로 계산되는 객체 URL (S3 호출 없음)
+    public String urlFor(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    /**
+     * key 로 객체를 올린다. length 가 음수면 크기를 모르는 스트림으로 보고 멀티파트로 보낸다.
+     */
+    public void put(String key, InputStream in, long length, String contentType) throws IOException {
+        long started = System.nanoTime();
+        boolean multipart = length < 0 || length >= properties.getMultipartThreshold().toBytes();
+        try {
+            if (multipart) {
+                uploadMultipart(key, in, contentType);
+            } else {
+                ObjectMetadata metadata = new ObjectMetadata();
+                metadata.setContentLength(length);
+                metadata.setContentType(contentType);
+                amazonS3.putObject(bucket, key, in, metadata);
+            }
+        } finally {
+            meterRegistry.timer("s3.upload", "mode", multipart ? "multipart" : "single")
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
 
+    private void uploadMultipart(String key, InputStream in, String contentType) throws IOException {
         ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(bytes.length);
-        metadata.setContentType("image/jpeg");
+        metadata.setContentType(contentType);
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
 
-        ByteArrayInputStream is = new ByteArrayInputStream(bytes);
-        amazonS3.putObject(new PutObjectRequest(bucket, fullFileName, is, metadata));
-        return amazonS3.getUrl(bucket, fullFileName).toString();
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            while (parts.stream().noneMatch(CompletableFuture::isCompletedExceptionally)) {
+                // 빈 버퍼가 생길 때까지 기다리므로 읽기가 전송보다 앞서 나가도 메모리는 늘지 않는다
+                byte[] buffer = buffers.acquire();
+                int read = readFully(in, buffer);
+                if (read == 0 && partNumber > 1) {
+                    buffers.release(buffer);
+                    break;
+                }
+                parts.add(uploadPart(key, uploadId, partNumber++, buffer, read));
+                if (read < buffer.length) break;
+            }
+            List<PartETag> etags = parts.stream().map(CompletableFuture::join).toList();
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, etags));
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId, parts);
+            if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private CompletableFuture<PartETag> uploadPart(String key, String uploadId, int partNumber,
+                                                   byte[] buffer, int length) {
+        UploadPartRequest request = new UploadPartRequest()
+                .withBucketName(bucket)
+                .withKey(key)
+                .withUploadId(uploadId)
+                .withPartNumber(partNumber)
+                .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                .withPartSize(length);
+        try {
+            return CompletableFuture.supplyAsync(() -> amazonS3.uploadPart(request).getPartETag(), s3UploadExecutor)
+                    .whenComplete((etag, e) -> buffers.release(buffer));
+        } catch (RuntimeException e) {
+            buffers.release(buffer);
+            throw e;
+        }
     }
-}
 
+    // 전송 중인 파트가 끝난 뒤 취소해야 S3 에 파트가 남지 않는다
+    private void abort(String key, String uploadId, List<CompletableFuture<PartETag>> parts) {
+        try {
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (RuntimeException e) {
+            log.warn("S3 멀티파트 업로드 취소 실패 (key={}): {}", key, e.getMessage());
+        }
+    }
+
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int n = in.read(buffer, total, buffer.length - total);
+            if (n < 0) break;
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * 모든 업로드가 공유하는 파트 버퍼. 한 번 만든 버퍼는 재사용하고, 전체 개수는 permits 로 제한한다.
+     */
+    private static final class BufferPool {
+        private final int bufferSize;
+        private final Semaphore permits;
+        private final ConcurrentLinkedQueue<byte[]> free = new ConcurrentLinkedQueue<>();
+
+        BufferPool(int bufferSize, int count) {
+            this.bufferSize = bufferSize;
+            this.permits = new Semaphore(count, true);
+        }
+
+        byte[] acquire() throws InterruptedIOException {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("S3 업로드 버퍼 대기 중 중단됨");
+            }
+            byte[] buffer = free.poll();
+            return buffer != null ? buffer : new byte[bufferSize];
+        }
+
+        void release(byte[] buffer) {
+            free.offer(buffer);
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package contest.mobicom_contest.contract.client;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 호출이 진행 중이면 새로 호출하지 않고 그 결과를 함께 기다리게 하는 합류(single-flight) 장치.
+ * 결과를 보관하지는 않으므로(호출이 끝나면 키를 지운다) 캐시 앞단에 두어 캐시 미스 폭주를 한 번의 호출로 줄인다.
+ * 여러 호출자가 같은 값을 받으므로 결과는 불변 객체여야 한다.
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public SingleFlight(Counter coalesced) {
+        this.coalesced = coalesced;
+    }
+
+    /**
+     * 같은 키로 진행 중인 호출이 없으면 현재 스레드에서 call 을 실행하고, 있으면 그 결과(또는 예외)를 돌려준다.
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            V result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        }
+    }
+}
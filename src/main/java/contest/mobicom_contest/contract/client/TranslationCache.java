@@ -0,0 +1,111 @@
+package contest.mobicom_contest.contract.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 법령명·이슈 유형처럼 짧고 반복되는 문자열의 번역 결과 캐시.
+ * (정규화된 원문, 대상 언어) 를 키로 하며, 항목 수가 아닌 추정 바이트 크기로 상한을 둔다.
+ * seed-file 이 지정되면 "언어\t원문\t번역" 형식의 TSV 를 미리 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationCache {
+
+    // 문자열 객체/키 레코드/캐시 노드 등 항목당 고정 오버헤드 추정치
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${openai.translation.cache.max-bytes:4194304}")
+    private long maxBytes;
+
+    @Value("${openai.translation.cache.max-text-length:200}")
+    private int maxTextLength;
+
+    @Value("${openai.translation.cache.seed-file:}")
+    private String seedFile;
+
+    private Cache<Key, String> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, String value) -> weigh(key, value))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "openai.translation");
+        Gauge.builder("openai.translation.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .register(meterRegistry);
+
+        if (StringUtils.hasText(seedFile)) {
+            loadSeed(new DefaultResourceLoader().getResource(seedFile));
+        }
+    }
+
+    public boolean isCacheable(String text) {
+        return text != null && !text.isBlank() && text.length() <= maxTextLength;
+    }
+
+    public Optional<String> get(String text, String targetLanguage) {
+        if (!isCacheable(text)) return Optional.empty();
+        return Optional.ofNullable(cache.getIfPresent(key(text, targetLanguage)));
+    }
+
+    public void put(String text, String targetLanguage, String translated) {
+        if (!isCacheable(text) || !StringUtils.hasText(translated)) return;
+        cache.put(key(text, targetLanguage), translated);
+    }
+
+    private void loadSeed(Resource resource) {
+        int loaded = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] columns = line.split("\t", 3);
+                if (columns.length < 3) continue;
+                put(columns[1], columns[0], columns[2].trim());
+                loaded++;
+            }
+            log.info("번역 캐시 시드 {}건 적재: {}", loaded, resource);
+        } catch (IOException e) {
+            log.warn("번역 캐시 시드 파일을 읽지 못했습니다 ({}): {}", resource, e.getMessage());
+        }
+    }
+
+    private static Key key(String text, String targetLanguage) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).strip().replaceAll("\\s+", " ");
+        return new Key(normalized, targetLanguage.strip().toLowerCase(Locale.ROOT));
+    }
+
+    private static int weigh(Key key, String value) {
+        return ENTRY_OVERHEAD_BYTES
+                + 2 * (key.text().length() + key.language().length() + value.length());
+    }
+
+    private record Key(String text, String language) {
+    }
+}
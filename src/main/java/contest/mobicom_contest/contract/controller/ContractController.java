@@ -1,10 +1,13 @@
 package contest.mobicom_contest.contract.controller;
 
 import contest.mobicom_contest.contract.dto.ContractResponseDTO;
+import contest.mobicom_contest.contract.exceptions.ImageProcessingBusyException;
 import contest.mobicom_contest.contract.model.Contract;
 import contest.mobicom_contest.contract.service.ContractService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -30,6 +33,11 @@ public class ContractController {
             Contract saved = contractService.save(memberId, file);
             Map<String, Object> result = contractService.analyze(saved, file);
             return ResponseEntity.ok(result);
+        } catch (ImageProcessingBusyException e) {
+            // 이미지 처리 풀이 가득 찬 경우는 서버 오류가 아니므로 재시도 시점을 알려 준다
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(500).body("분석 오류: " + e.getMessage());
         }
@@ -0,0 +1,14 @@
+package contest.mobicom_contest.contract.dto;
+
+/**
+ * 법령 본문의 조문 하나 (조문제목과 조문·항 내용을 합친 본문).
+ * key 는 법령 안에서 조문을 특정하는 조문키다. 조문제목은 여러 조문이 같을 수 있고(벌칙·과태료 등) 전문 행은 비어 있다.
+ * 제·개정 이유도 하나의 조문처럼 취급한다.
+ */
+public record LawArticle(String key, String title, String text) {
+
+    // 프롬프트에 넣을 때의 표기
+    public String format() {
+        return "【" + title + "】\n" + text + "\n";
+    }
+}
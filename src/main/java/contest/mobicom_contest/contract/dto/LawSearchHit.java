@@ -0,0 +1,20 @@
+package contest.mobicom_contest.contract.dto;
+
+import contest.mobicom_contest.contract.model.Contract;
+import contest.mobicom_contest.law.model.LawInfo;
+
+/**
+ * lawSearch.do 검색 결과 한 건. 요청 간에 공유해도 되도록 불변이며, 필요할 때 계약서별 LawInfo 로 변환한다.
+ */
+public record LawSearchHit(String lawName, String lawSerialNumber, String referenceNumber, String detailUrl) {
+
+    public LawInfo toLawInfo(Contract contract) {
+        return LawInfo.builder()
+                .lawName(lawName)
+                .lawSerialNumber(lawSerialNumber)
+                .referenceNumber(referenceNumber)
+                .detailUrl(detailUrl)
+                .contract(contract)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package contest.mobicom_contest.contract.exceptions;
+
+// 이미지 처리 풀과 대기열이 가득 차 요청을 받지 못한 경우 (429 + Retry-After 로 응답)
+public class ImageProcessingBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ImageProcessingBusyException(long retryAfterSeconds) {
+        super("이미지 처리 요청이 많아 잠시 후 다시 시도해 주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
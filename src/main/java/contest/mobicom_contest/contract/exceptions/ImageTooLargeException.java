@@ -0,0 +1,8 @@
+package contest.mobicom_contest.contract.exceptions;
+
+// 헤더에 기록된 픽셀 수가 디코딩 한도를 넘는 이미지 (압축 폭탄 방지)
+public class ImageTooLargeException extends RuntimeException {
+    public ImageTooLargeException(String message) {
+        super(message);
+    }
+}
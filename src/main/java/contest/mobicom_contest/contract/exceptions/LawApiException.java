@@ -0,0 +1,12 @@
+package contest.mobicom_contest.contract.exceptions;
+
+// law.go.kr 호출이 재시도 후에도 실패했거나, 회로 차단으로 호출하지 않은 경우
+public class LawApiException extends RuntimeException {
+    public LawApiException(String message) {
+        super(message);
+    }
+
+    public LawApiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
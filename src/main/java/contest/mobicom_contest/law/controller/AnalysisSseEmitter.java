@@ -0,0 +1,74 @@
+package contest.mobicom_contest.law.controller;
+
+import contest.mobicom_contest.contract.dto.Issue;
+import contest.mobicom_contest.law.dto.AnalysisJobDto;
+import contest.mobicom_contest.law.dto.AnalysisStage;
+import contest.mobicom_contest.law.dto.LawAnalyzeDto;
+import contest.mobicom_contest.law.dto.LawInfoDTO;
+import contest.mobicom_contest.law.service.AnalysisListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 분석 진행 이벤트를 text/event-stream 으로 내보낸다.
+ * 이벤트: job, stage, issue, law, done, error
+ * issue 는 감지 즉시 원문으로 보내고, 번역이 필요하면 끝난 뒤 같은 index 로 번역본을 다시 보낸다.
+ */
+@Slf4j
+class AnalysisSseEmitter extends SseEmitter implements AnalysisListener {
+
+    // 클라이언트가 끊긴 뒤에는 분석은 계속 진행하되 전송만 멈춘다
+    private volatile boolean closed;
+
+    AnalysisSseEmitter(long timeoutMillis) {
+        super(timeoutMillis);
+        onCompletion(() -> closed = true);
+        onTimeout(() -> closed = true);
+        onError(e -> closed = true);
+    }
+
+    void sendEvent(String name, Object data) {
+        if (closed) return;
+        try {
+            send(event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            closed = true;
+            log.debug("SSE 전송 중단 ({}): {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onSubmitted(AnalysisJobDto job) {
+        sendEvent("job", job);
+    }
+
+    @Override
+    public void onStage(AnalysisStage stage) {
+        sendEvent("stage", stage);
+    }
+
+    @Override
+    public void onIssue(int index, Issue issue) {
+        sendEvent("issue", Map.of("index", index, "issue", issue));
+    }
+
+    @Override
+    public void onLaw(LawInfoDTO law) {
+        sendEvent("law", law);
+    }
+
+    @Override
+    public void onCompleted(LawAnalyzeDto result) {
+        sendEvent("done", result);
+        if (!closed) complete();
+    }
+
+    @Override
+    public void onFailed(Exception error) {
+        sendEvent("error", Map.of("message", String.valueOf(error.getMessage())));
+        if (!closed) complete();
+    }
+}
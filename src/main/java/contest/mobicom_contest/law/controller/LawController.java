@@ -1,14 +1,24 @@
 package contest.mobicom_contest.law.controller;
 
+import contest.mobicom_contest.law.dto.AnalysisJobDto;
 import contest.mobicom_contest.law.dto.LawAnalyzeDto;
 import contest.mobicom_contest.law.model.LawInfo;
+import contest.mobicom_contest.law.service.AnalysisJobService;
+import contest.mobicom_contest.law.service.AnalysisListener;
 import contest.mobicom_contest.law.service.LawService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,6 +26,10 @@ import java.util.List;
 public class LawController {
 
     private final LawService lawService;
+    private final AnalysisJobService analysisJobService;
+
+    @Value("${law.analysis.stream-timeout:5m}")
+    private Duration streamTimeout;
 
     @Operation(summary = "계약서 법률정보 조회")
     @GetMapping("/contracts/{contractId}/lawinfo")
@@ -29,11 +43,54 @@ public class LawController {
         return lawService.getLawById(lawInfoId);
     }
 
-    @Operation(summary = "법률 정보 분석")
+    @Operation(summary = "법률 정보 분석 (기본: 비동기 작업 생성 후 202, sync=true 이면 결과를 바로 반환, force=true 이면 저장된 결과 무시)")
     @PostMapping("/contracts/{contractId}/analyze")
-    public ResponseEntity<LawAnalyzeDto> analyzeContract(@PathVariable Long contractId) {
+    public ResponseEntity<?> analyzeContract(@PathVariable Long contractId,
+                                             @RequestParam(defaultValue = "false") boolean sync,
+                                             @RequestParam(defaultValue = "false") boolean force) {
+        if (sync) {
+            return analyzeContractSync(contractId, force);
+        }
+        try {
+            AnalysisJobDto job = analysisJobService.submit(contractId, force);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/analysis-jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(null);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "10").body(null);
+        }
+    }
+
+    @Operation(summary = "법률 정보 분석 스트리밍 (이슈/법령을 준비되는 대로 SSE 로 전송)")
+    @GetMapping(value = "/contracts/{contractId}/analyze/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAnalysis(@PathVariable Long contractId,
+                                                     @RequestParam(defaultValue = "false") boolean force) {
+        AnalysisSseEmitter emitter = new AnalysisSseEmitter(streamTimeout.toMillis());
+        try {
+            analysisJobService.submit(contractId, force, emitter);
+            return ResponseEntity.ok(emitter);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(null);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "10").body(null);
+        }
+    }
+
+    @Operation(summary = "법률 정보 분석 작업 상태 조회")
+    @GetMapping("/analysis-jobs/{jobId}")
+    public ResponseEntity<AnalysisJobDto> getAnalysisJob(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(analysisJobService.getJob(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(null);
+        }
+    }
+
+    private ResponseEntity<LawAnalyzeDto> analyzeContractSync(Long contractId, boolean force) {
         try {
-            LawAnalyzeDto result = lawService.analyzeLegalIssues(contractId);
+            LawAnalyzeDto result = lawService.analyzeLegalIssues(contractId, force, AnalysisListener.NONE);
             return ResponseEntity.ok(result);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(null);
@@ -42,4 +99,4 @@ public class LawController {
         }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package contest.mobicom_contest.law.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnalysisJobDto {
+    private String jobId;
+    private Long contractId;
+    private AnalysisJobStatus status;
+    private AnalysisStage stage;
+    private int completedLaws;
+    private int totalLaws;
+    private LawAnalyzeDto result;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,8 @@
+package contest.mobicom_contest.law.dto;
+
+public enum AnalysisJobStatus {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED
+}
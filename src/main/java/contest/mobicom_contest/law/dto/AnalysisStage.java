@@ -0,0 +1,9 @@
+package contest.mobicom_contest.law.dto;
+
+public enum AnalysisStage {
+    DETECTING_ISSUES,
+    SEARCHING_LAWS,
+    SUMMARIZING_LAWS,
+    TRANSLATING,
+    SAVING
+}
@@ -2,14 +2,18 @@ package contest.mobicom_contest.law.dto;
 
 import contest.mobicom_contest.contract.dto.Issue;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Data
+@NoArgsConstructor
 public class LawAnalyzeDto {
     private Long contractId;
     private List<Issue> issues;
     private List<LawInfoDTO> laws;
+    // 법령 API 장애로 일부 법령이 빠진 결과 (저장·재사용하지 않음)
+    private boolean degraded;
 
     public LawAnalyzeDto(Long contractId, List<Issue> issues, List<LawInfoDTO> laws) {
         this.contractId = contractId;
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -14,13 +16,20 @@ public class LawInfoDTO {
     private String translatedSummary;
     private String referenceNumber;
     private String sourceLink;
+    // 이 법령이 관련된 이슈들의 LawAnalyzeDto.issues 내 인덱스
+    private List<Integer> issueIndexes;
 
     public LawInfoDTO(LawInfo lawInfo) {
+        this(lawInfo, List.of());
+    }
+
+    public LawInfoDTO(LawInfo lawInfo, List<Integer> issueIndexes) {
         this.lawName = lawInfo.getLawName();
         this.translatedLawName = lawInfo.getTranslatedLawName();
         this.translatedSummary = lawInfo.getTranslatedSummary();
         this.referenceNumber = lawInfo.getReferenceNumber();
         this.sourceLink = "https://www.law.go.kr" + lawInfo.getDetailUrl();
+        this.issueIndexes = issueIndexes;
     }
 }
 
@@ -0,0 +1,5 @@
+package contest.mobicom_contest.law.dto;
+
+// 법령의 특정 시행 버전 (개정되면 법령일련번호와 공포번호가 바뀐다)
+public record LawVersion(String lawName, String lawSerialNumber, String referenceNumber) {
+}
@@ -0,0 +1,40 @@
+package contest.mobicom_contest.law.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "AnalysisResult", uniqueConstraints = @UniqueConstraint(
+        name = "uk_analysis_result_key",
+        columnNames = {"contract_id", "ocr_hash", "target_language", "pipeline_version"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+public class AnalysisResult {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long analysisResultId;
+
+    @Column(name = "contract_id", nullable = false)
+    private Long contractId;
+
+    // 분석 당시 Contract.ocrText 의 SHA-256
+    @Column(name = "ocr_hash", nullable = false, length = 64)
+    private String ocrHash;
+
+    @Column(name = "target_language", nullable = false)
+    private String targetLanguage;
+
+    @Column(name = "pipeline_version", nullable = false)
+    private String pipelineVersion;
+
+    // 직렬화된 LawAnalyzeDto
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String resultJson;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
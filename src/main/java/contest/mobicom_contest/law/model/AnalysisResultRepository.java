@@ -0,0 +1,10 @@
+package contest.mobicom_contest.law.model;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface AnalysisResultRepository extends JpaRepository<AnalysisResult, Long> {
+    Optional<AnalysisResult> findByContractIdAndOcrHashAndTargetLanguageAndPipelineVersion(
+            Long contractId, String ocrHash, String targetLanguage, String pipelineVersion);
+}
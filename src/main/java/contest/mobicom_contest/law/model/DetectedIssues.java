@@ -0,0 +1,34 @@
+package contest.mobicom_contest.law.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "DetectedIssues", uniqueConstraints = @UniqueConstraint(
+        name = "uk_detected_issues_key",
+        columnNames = {"fingerprint", "pipeline_version"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+public class DetectedIssues {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long detectedIssuesId;
+
+    // 정규화된 OCR 텍스트의 SHA-256
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(name = "pipeline_version", nullable = false)
+    private String pipelineVersion;
+
+    // 번역 전(한국어) 이슈 목록 JSON
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String issuesJson;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,9 @@
+package contest.mobicom_contest.law.model;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface DetectedIssuesRepository extends JpaRepository<DetectedIssues, Long> {
+    Optional<DetectedIssues> findByFingerprintAndPipelineVersion(String fingerprint, String pipelineVersion);
+}
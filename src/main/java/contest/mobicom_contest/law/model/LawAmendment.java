@@ -0,0 +1,46 @@
+package contest.mobicom_contest.law.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "LawAmendment", uniqueConstraints = @UniqueConstraint(
+        name = "uk_law_amendment_versions",
+        columnNames = {"previous_serial_number", "current_serial_number"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+public class LawAmendment {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long lawAmendmentId;
+
+    @Column(nullable = false)
+    private String lawName;
+
+    @Column(name = "previous_serial_number", nullable = false)
+    private String previousSerialNumber;
+
+    @Column(name = "current_serial_number", nullable = false)
+    private String currentSerialNumber;
+
+    private String previousReferenceNumber;
+
+    private String currentReferenceNumber;
+
+    // 내용이 바뀌었거나 삭제된 조문 수
+    private int changedArticles;
+
+    // 바뀐 조문을 포함해 무효가 된 요약 수 / 그대로 새 버전으로 옮긴 요약 수 / 다시 만든 요약 수
+    private int invalidatedSummaries;
+
+    private int carriedSummaries;
+
+    private int resummarized;
+
+    @Column(nullable = false)
+    private LocalDateTime detectedAt;
+}
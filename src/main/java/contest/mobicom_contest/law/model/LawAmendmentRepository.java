@@ -0,0 +1,7 @@
+package contest.mobicom_contest.law.model;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LawAmendmentRepository extends JpaRepository<LawAmendment, Long> {
+    boolean existsByPreviousSerialNumberAndCurrentSerialNumber(String previousSerialNumber, String currentSerialNumber);
+}
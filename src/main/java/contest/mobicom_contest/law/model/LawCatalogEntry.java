@@ -0,0 +1,34 @@
+package contest.mobicom_contest.law.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "LawCatalogEntry")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+public class LawCatalogEntry {
+    @Id
+    @Column(name = "law_serial_number")
+    private String lawSerialNumber;
+
+    @Column(nullable = false)
+    private String lawName;
+
+    private String referenceNumber;
+
+    @Column(length = 512)
+    private String detailUrl;
+
+    // 이 법령을 찾게 해 준 검색어·이슈 유형 (쉼표 구분)
+    @Column(length = 512)
+    private String keywords;
+
+    @Column(nullable = false)
+    private LocalDateTime refreshedAt;
+}
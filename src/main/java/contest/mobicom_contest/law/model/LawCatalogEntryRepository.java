@@ -0,0 +1,9 @@
+package contest.mobicom_contest.law.model;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface LawCatalogEntryRepository extends JpaRepository<LawCatalogEntry, String> {
+    List<LawCatalogEntry> findByLawName(String lawName);
+}
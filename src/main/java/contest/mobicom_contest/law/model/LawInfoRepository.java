@@ -1,10 +1,19 @@
 package contest.mobicom_contest.law.model;
 
+import contest.mobicom_contest.law.dto.LawVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface LawInfoRepository extends JpaRepository<LawInfo, Long> {
     List<LawInfo> findByContractContractId(Long contractId);
+
+    void deleteByContractContractId(Long contractId);
+
+    // 분석 결과에 등장한 법령 버전 (법령명, 법령일련번호, 공포번호) 목록
+    @Query("select distinct new contest.mobicom_contest.law.dto.LawVersion(l.lawName, l.lawSerialNumber, l.referenceNumber) "
+            + "from LawInfo l where l.lawSerialNumber is not null")
+    List<LawVersion> findDistinctLawVersions();
 }
 
@@ -0,0 +1,40 @@
+package contest.mobicom_contest.law.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "LawSummary", uniqueConstraints = @UniqueConstraint(
+        name = "uk_law_summary_key",
+        columnNames = {"law_serial_number", "content_hash", "target_language"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+public class LawSummary {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long lawSummaryId;
+
+    @Column(name = "law_serial_number", nullable = false)
+    private String lawSerialNumber;
+
+    // 요약에 쓴 조문 집합(정렬한 조문키)의 SHA-256. 같은 MST 안에서는 조문키가 본문을 특정한다
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "target_language", nullable = false)
+    private String targetLanguage;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String summary;
+
+    // 요약에 사용한 조문키 (줄바꿈 구분). 개정 시 바뀐 조문이 포함된 요약만 다시 만들기 위해 보관
+    @Column(columnDefinition = "TEXT")
+    private String articleKeys;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,13 @@
+package contest.mobicom_contest.law.model;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface LawSummaryRepository extends JpaRepository<LawSummary, Long> {
+    Optional<LawSummary> findByLawSerialNumberAndContentHashAndTargetLanguage(
+            String lawSerialNumber, String contentHash, String targetLanguage);
+
+    List<LawSummary> findByLawSerialNumber(String lawSerialNumber);
+}
@@ -0,0 +1,25 @@
+package contest.mobicom_contest.law.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "LawText")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+public class LawText {
+    @Id
+    @Column(name = "law_serial_number")
+    private String lawSerialNumber;
+
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    private LocalDateTime fetchedAt;
+}
@@ -0,0 +1,6 @@
+package contest.mobicom_contest.law.model;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LawTextRepository extends JpaRepository<LawText, String> {
+}
@@ -0,0 +1,169 @@
+package contest.mobicom_contest.law.service;
+
+import contest.mobicom_contest.contract.dto.Issue;
+import contest.mobicom_contest.contract.model.ContractRepository;
+import contest.mobicom_contest.law.dto.AnalysisJobDto;
+import contest.mobicom_contest.law.dto.AnalysisJobStatus;
+import contest.mobicom_contest.law.dto.AnalysisStage;
+import contest.mobicom_contest.law.dto.LawAnalyzeDto;
+import contest.mobicom_contest.law.dto.LawInfoDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 법령 분석을 비동기 작업으로 실행하고 상태를 메모리에 보관한다.
+ * 작업 풀과 대기열이 가득 차면 RejectedExecutionException 을 그대로 던진다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisJobService {
+
+    private final LawService lawService;
+    private final ContractRepository contractRepository;
+
+    @Qualifier("analysisJobExecutor")
+    private final ExecutorService analysisJobExecutor;
+
+    // 완료/실패한 작업을 조회 가능하게 남겨 두는 시간
+    @Value("${law.analysis.jobs.retention:1h}")
+    private Duration retention;
+
+    private final Map<String, AnalysisJob> jobs = new ConcurrentHashMap<>();
+
+    public AnalysisJobDto submit(Long contractId, boolean force) {
+        return submit(contractId, force, AnalysisListener.NONE);
+    }
+
+    /**
+     * 작업 상태 갱신과 함께 진행 이벤트를 subscriber 에도 전달한다 (SSE 스트리밍 용).
+     */
+    public AnalysisJobDto submit(Long contractId, boolean force, AnalysisListener subscriber) {
+        if (!contractRepository.existsById(contractId)) {
+            throw new IllegalArgumentException("계약서 없음");
+        }
+        evictExpired();
+
+        AnalysisJob job = new AnalysisJob(UUID.randomUUID().toString(), contractId, force, subscriber);
+        jobs.put(job.jobId, job);
+        // 캐시 적중 등으로 작업이 바로 끝나도 job 이벤트가 done 보다 먼저 나가도록 실행 전에 알린다
+        subscriber.onSubmitted(job.toDto());
+        try {
+            analysisJobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.jobId);
+            throw e;
+        }
+        return job.toDto();
+    }
+
+    public AnalysisJobDto getJob(String jobId) {
+        AnalysisJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("분석 작업을 찾을 수 없습니다.");
+        }
+        return job.toDto();
+    }
+
+    private void run(AnalysisJob job) {
+        job.update(AnalysisJobStatus.RUNNING);
+        try {
+            LawAnalyzeDto result = lawService.analyzeLegalIssues(job.contractId, job.force, job);
+            job.result = result;
+            job.update(AnalysisJobStatus.DONE);
+            job.subscriber.onCompleted(result);
+        } catch (Exception e) {
+            log.error("분석 작업 실패: jobId={}, contractId={}", job.jobId, job.contractId, e);
+            job.error = e.getMessage();
+            job.update(AnalysisJobStatus.FAILED);
+            job.subscriber.onFailed(e);
+        }
+    }
+
+    private void evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.updatedAt.isBefore(threshold));
+    }
+
+    private static class AnalysisJob implements AnalysisListener {
+        private final String jobId;
+        private final Long contractId;
+        private final boolean force;
+        private final AnalysisListener subscriber;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile AnalysisJobStatus status = AnalysisJobStatus.QUEUED;
+        private volatile AnalysisStage stage;
+        private volatile int completedLaws;
+        private volatile int totalLaws;
+        private volatile LawAnalyzeDto result;
+        private volatile String error;
+        private volatile LocalDateTime updatedAt = createdAt;
+
+        private AnalysisJob(String jobId, Long contractId, boolean force, AnalysisListener subscriber) {
+            this.jobId = jobId;
+            this.contractId = contractId;
+            this.force = force;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onStage(AnalysisStage stage) {
+            this.stage = stage;
+            this.updatedAt = LocalDateTime.now();
+            subscriber.onStage(stage);
+        }
+
+        @Override
+        public void onLawProcessed(int completed, int total) {
+            this.completedLaws = completed;
+            this.totalLaws = total;
+            this.updatedAt = LocalDateTime.now();
+            subscriber.onLawProcessed(completed, total);
+        }
+
+        @Override
+        public void onIssue(int index, Issue issue) {
+            subscriber.onIssue(index, issue);
+        }
+
+        @Override
+        public void onLaw(LawInfoDTO law) {
+            subscriber.onLaw(law);
+        }
+
+        private void update(AnalysisJobStatus status) {
+            this.status = status;
+            this.updatedAt = LocalDateTime.now();
+        }
+
+        private boolean isFinished() {
+            return status == AnalysisJobStatus.DONE || status == AnalysisJobStatus.FAILED;
+        }
+
+        private AnalysisJobDto toDto() {
+            return AnalysisJobDto.builder()
+                    .jobId(jobId)
+                    .contractId(contractId)
+                    .status(status)
+                    .stage(stage)
+                    .completedLaws(completedLaws)
+                    .totalLaws(totalLaws)
+                    .result(result)
+                    .error(error)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
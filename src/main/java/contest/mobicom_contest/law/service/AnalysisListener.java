@@ -0,0 +1,42 @@
+package contest.mobicom_contest.law.service;
+
+import contest.mobicom_contest.contract.dto.Issue;
+import contest.mobicom_contest.law.dto.AnalysisJobDto;
+import contest.mobicom_contest.law.dto.AnalysisStage;
+import contest.mobicom_contest.law.dto.LawAnalyzeDto;
+import contest.mobicom_contest.law.dto.LawInfoDTO;
+
+/**
+ * analyzeLegalIssues 진행 상황 콜백. 분석 작업 스레드에서 호출되므로 구현은 빠르게 반환해야 한다.
+ */
+public interface AnalysisListener {
+
+    AnalysisListener NONE = new AnalysisListener() {
+    };
+
+    // 작업이 등록된 직후, 분석 스레드에 넘기기 전에 호출계 스레드에서 한 번 호출된다 (AnalysisJobService 전용)
+    default void onSubmitted(AnalysisJobDto job) {
+    }
+
+    default void onStage(AnalysisStage stage) {
+    }
+
+    default void onLawProcessed(int completed, int total) {
+    }
+
+    // 감지 직후의 원문 이슈. 대상 언어가 한국어가 아니면 번역이 끝난 뒤 같은 index 로 번역본이 한 번 더 온다
+    // (index 는 최종 결과의 issues 순서)
+    default void onIssue(int index, Issue issue) {
+    }
+
+    // 요약·법령명 번역이 끝난 법령
+    default void onLaw(LawInfoDTO law) {
+    }
+
+    // 아래 두 콜백은 분석 작업(AnalysisJobService)이 끝날 때 호출된다
+    default void onCompleted(LawAnalyzeDto result) {
+    }
+
+    default void onFailed(Exception error) {
+    }
+}
@@ -0,0 +1,128 @@
+package contest.mobicom_contest.law.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import contest.mobicom_contest.law.dto.LawAnalyzeDto;
+import contest.mobicom_contest.law.model.AnalysisResult;
+import contest.mobicom_contest.law.model.AnalysisResultRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (계약서, OCR 텍스트 해시, 대상 언어, 파이프라인 버전) 별 분석 결과 저장소.
+ * 같은 키의 재요청은 저장된 결과로 응답하고, 동시에 들어온 같은 키의 요청은 한 번만 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisResultStore {
+
+    private final AnalysisResultRepository analysisResultRepository;
+    private final ObjectMapper objectMapper;
+
+    // 프롬프트·검색 로직 등 결과에 영향을 주는 변경 시 올려서 기존 결과를 무효화
+    @Value("${law.analysis.pipeline-version}")
+    private String pipelineVersion;
+
+    private final Map<Key, CompletableFuture<LawAnalyzeDto>> inFlight = new ConcurrentHashMap<>();
+
+    public LawAnalyzeDto getOrCompute(Long contractId, String ocrText, String targetLanguage, boolean force,
+                                      AnalysisListener listener, Callable<LawAnalyzeDto> compute) throws Exception {
+        Key key = new Key(contractId, ContentHash.sha256(ocrText), targetLanguage, pipelineVersion);
+
+        if (!force) {
+            Optional<LawAnalyzeDto> stored = find(key);
+            if (stored.isPresent()) {
+                replay(stored.get(), listener);
+                return stored.get();
+            }
+        }
+
+        CompletableFuture<LawAnalyzeDto> mine = new CompletableFuture<>();
+        CompletableFuture<LawAnalyzeDto> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            LawAnalyzeDto result = await(existing);
+            replay(result, listener);
+            return result;
+        }
+
+        try {
+            LawAnalyzeDto result = compute.call();
+            // 외부 장애로 불완전한 결과는 저장하지 않아 다음 요청이 다시 계산하게 한다
+            if (!result.isDegraded()) {
+                store(key, result);
+            }
+            mine.complete(result);
+            return result;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Optional<LawAnalyzeDto> find(Key key) {
+        try {
+            Optional<AnalysisResult> stored = findEntity(key);
+            if (stored.isPresent()) {
+                return Optional.of(objectMapper.readValue(stored.get().getResultJson(), LawAnalyzeDto.class));
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("저장된 분석 결과 조회 실패 (contractId={}): {}", key.contractId(), e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private Optional<AnalysisResult> findEntity(Key key) {
+        return analysisResultRepository.findByContractIdAndOcrHashAndTargetLanguageAndPipelineVersion(
+                key.contractId(), key.ocrHash(), key.targetLanguage(), key.pipelineVersion());
+    }
+
+    private void store(Key key, LawAnalyzeDto result) {
+        try {
+            AnalysisResult entity = findEntity(key).orElseGet(() -> AnalysisResult.builder()
+                    .contractId(key.contractId())
+                    .ocrHash(key.ocrHash())
+                    .targetLanguage(key.targetLanguage())
+                    .pipelineVersion(key.pipelineVersion())
+                    .build());
+            entity.setResultJson(objectMapper.writeValueAsString(result));
+            entity.setCreatedAt(LocalDateTime.now());
+            analysisResultRepository.save(entity);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("분석 결과 저장 실패 (contractId={}): {}", key.contractId(), e.getMessage());
+        }
+    }
+
+    // 저장된 결과로 응답할 때도 스트리밍 구독자는 이슈/법령 이벤트를 받도록 재생
+    private void replay(LawAnalyzeDto result, AnalysisListener listener) {
+        for (int i = 0; i < result.getIssues().size(); i++) {
+            listener.onIssue(i, result.getIssues().get(i));
+        }
+        result.getLaws().forEach(listener::onLaw);
+    }
+
+    private LawAnalyzeDto await(CompletableFuture<LawAnalyzeDto> future) throws Exception {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) throw cause;
+            throw e;
+        }
+    }
+
+    private record Key(Long contractId, String ocrHash, String targetLanguage, String pipelineVersion) {
+    }
+}
@@ -0,0 +1,104 @@
+package contest.mobicom_contest.law.service;
+
+import contest.mobicom_contest.contract.dto.LawArticle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 법령의 조문들을 쟁점 문장(근거·사유)과의 BM25 점수로 정렬해 상위 k개만 고른다.
+ * 형태소 분석기 없이 어절 내 2-gram 을 색인어로 쓰며, 말뭉치는 해당 법령의 조문 전체다.
+ */
+@Component
+public class ArticleRanker {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    @Value("${law.retrieval.top-k:5}")
+    private int topK;
+
+    /**
+     * 점수 상위 k개 조문을 원래 조문 순서대로 돌려준다.
+     * 조문 수가 k 이하이거나 쟁점과 겹치는 색인어가 전혀 없으면 앞에서부터 k개를 쓴다.
+     */
+    public List<LawArticle> select(List<LawArticle> articles, String query) {
+        if (articles.size() <= topK) return articles;
+
+        Set<String> queryTerms = new LinkedHashSet<>(terms(query));
+        if (queryTerms.isEmpty()) return articles.subList(0, topK);
+
+        List<Map<String, Integer>> frequencies = new ArrayList<>(articles.size());
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        int[] lengths = new int[articles.size()];
+        long totalLength = 0;
+        for (LawArticle article : articles) {
+            List<String> tokens = terms(article.title() + " " + article.text());
+            Map<String, Integer> tf = new HashMap<>();
+            for (String token : tokens) {
+                if (queryTerms.contains(token)) {
+                    tf.merge(token, 1, Integer::sum);
+                }
+            }
+            tf.keySet().forEach(term -> documentFrequency.merge(term, 1, Integer::sum));
+            // 문서 길이 정규화용 길이는 전체 색인어 수
+            lengths[frequencies.size()] = tokens.size();
+            frequencies.add(tf);
+            totalLength += tokens.size();
+        }
+
+        int n = articles.size();
+        double averageLength = Math.max(1.0, (double) totalLength / n);
+        double[] scores = new double[n];
+        for (int i = 0; i < n; i++) {
+            Map<String, Integer> tf = frequencies.get(i);
+            double lengthNorm = 1 - B + B * lengths[i] / averageLength;
+            for (String term : queryTerms) {
+                int f = tf.getOrDefault(term, 0);
+                if (f == 0) continue;
+                int df = documentFrequency.get(term);
+                double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+                scores[i] += idf * f * (K1 + 1) / (f + K1 * lengthNorm);
+            }
+        }
+
+        List<Integer> ranked = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (scores[i] > 0) ranked.add(i);
+        }
+        if (ranked.isEmpty()) return articles.subList(0, topK);
+
+        return ranked.stream()
+                .sorted(Comparator.comparingDouble((Integer i) -> scores[i]).reversed())
+                .limit(topK)
+                .sorted()
+                .map(articles::get)
+                .toList();
+    }
+
+    // 글자·숫자 연속 구간(어절)을 2-gram 으로 쪼갠다. 한 글자 어절은 변별력이 없어 버린다.
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) return terms;
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                for (int j = start; j + 2 <= i; j++) {
+                    terms.add(text.substring(j, j + 2).toLowerCase());
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,86 @@
+package contest.mobicom_contest.law.service;
+
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 계약서 OCR 텍스트에서 규칙 판단에 필요한 값(임금, 근로시간, 휴게, 계약일 등)을 추출한 결과.
+ * 값이 없으면 해당 필드는 null 이며, evidence 는 값이 나온 줄 전체(인용문)이다.
+ */
+public record ContractFields(
+        Extracted<Integer> hourlyWage,
+        Extracted<Integer> weeklyHours,
+        Extracted<Integer> dailySpanMinutes,
+        Extracted<Integer> breakMinutes,
+        Extracted<LocalDate> contractStart,
+        Extracted<Boolean> weeklyHolidayPayDenied) {
+
+    public record Extracted<T>(T value, String evidence) {
+    }
+
+    // 모든 항목을 한 번의 스캔으로 찾기 위해 이름 있는 그룹을 하나의 패턴으로 합친다 (앞쪽 대안이 우선)
+    private static final Pattern FIELDS = Pattern.compile(String.join("|",
+            "(?<hourlyWage>시\\s*급\\s*:?\\s*(?<hourlyWageValue>\\d{1,3}(?:,\\d{3})+|\\d+)\\s*원)",
+            "(?<breakRange>휴\\s*게\\s*시\\s*간\\s*:?\\s*(?<breakStartH>\\d{1,2})\\s*시\\s*(?<breakStartM>\\d{1,2})\\s*분\\s*[~\\-]\\s*(?<breakEndH>\\d{1,2})\\s*시\\s*(?<breakEndM>\\d{1,2})\\s*분)",
+            "(?<workRange>(?<workStartH>\\d{1,2})\\s*시\\s*(?<workStartM>\\d{1,2})\\s*분\\s*부터\\s*(?<workEndH>\\d{1,2})\\s*시\\s*(?<workEndM>\\d{1,2})\\s*분\\s*까지)",
+            "(?<weekly>(?:매\\s*주|주)[^\\d\\n]{0,20}?(?<weeklyHoursValue>\\d{1,3})\\s*시\\s*간)",
+            "(?<date>(?<year>\\d{4})\\s*년\\s*(?<month>\\d{1,2})\\s*월\\s*(?<day>\\d{1,2})\\s*일)",
+            "(?<holidayPayDenied>주\\s*휴\\s*수\\s*당\\s*:?\\s*(?:없음|미지급|지급\\s*하지\\s*않))"));
+
+    public static ContractFields extract(String ocrText) {
+        if (ocrText == null) {
+            return new ContractFields(null, null, null, null, null, null);
+        }
+
+        Extracted<Integer> hourlyWage = null;
+        Extracted<Integer> weeklyHours = null;
+        Extracted<Integer> dailySpan = null;
+        Extracted<Integer> breakMinutes = null;
+        Extracted<LocalDate> contractStart = null;
+        Extracted<Boolean> holidayPayDenied = null;
+
+        Matcher m = FIELDS.matcher(ocrText);
+        while (m.find()) {
+            String evidence = lineOf(ocrText, m.start());
+            if (m.group("hourlyWage") != null && hourlyWage == null) {
+                hourlyWage = new Extracted<>(Integer.parseInt(m.group("hourlyWageValue").replace(",", "")), evidence);
+            } else if (m.group("breakRange") != null && breakMinutes == null) {
+                breakMinutes = new Extracted<>(minutesBetween(
+                        m.group("breakStartH"), m.group("breakStartM"), m.group("breakEndH"), m.group("breakEndM")), evidence);
+            } else if (m.group("workRange") != null && dailySpan == null) {
+                dailySpan = new Extracted<>(minutesBetween(
+                        m.group("workStartH"), m.group("workStartM"), m.group("workEndH"), m.group("workEndM")), evidence);
+            } else if (m.group("weekly") != null && weeklyHours == null) {
+                weeklyHours = new Extracted<>(Integer.parseInt(m.group("weeklyHoursValue")), evidence);
+            } else if (m.group("date") != null && contractStart == null) {
+                contractStart = toDate(m.group("year"), m.group("month"), m.group("day"), evidence);
+            } else if (m.group("holidayPayDenied") != null) {
+                holidayPayDenied = new Extracted<>(true, evidence);
+            }
+        }
+        return new ContractFields(hourlyWage, weeklyHours, dailySpan, breakMinutes, contractStart, holidayPayDenied);
+    }
+
+    // 종료 시각이 시작보다 이르면 자정을 넘긴 것으로 본다
+    private static int minutesBetween(String startH, String startM, String endH, String endM) {
+        int start = Integer.parseInt(startH) * 60 + Integer.parseInt(startM);
+        int end = Integer.parseInt(endH) * 60 + Integer.parseInt(endM);
+        return end >= start ? end - start : end + 24 * 60 - start;
+    }
+
+    private static Extracted<LocalDate> toDate(String year, String month, String day, String evidence) {
+        try {
+            return new Extracted<>(LocalDate.of(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day)),
+                    evidence);
+        } catch (java.time.DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static String lineOf(String text, int index) {
+        int start = text.lastIndexOf('\n', index - 1) + 1;
+        int end = text.indexOf('\n', index);
+        return text.substring(start, end < 0 ? text.length() : end).trim();
+    }
+}
@@ -0,0 +1,94 @@
+package contest.mobicom_contest.law.service;
+
+import contest.mobicom_contest.contract.dto.Issue;
+import contest.mobicom_contest.law.service.ContractFields.Extracted;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * OCR 텍스트만으로 명확하게 판단할 수 있는 위반(최저임금 미달, 주 52시간 초과, 휴게시간 부족, 주휴수당 미지급)을
+ * GPT 호출 없이 판정한다. 이슈 유형은 GPT 프롬프트와 같은 값(최저임금, 근로시간 등)을 사용한다.
+ */
+@Component
+public class ContractRuleEngine {
+
+    // 연도별 최저시급 (최저임금위원회 고시)
+    private static final NavigableMap<Integer, Integer> MINIMUM_HOURLY_WAGE = new TreeMap<>(Map.of(
+            2021, 8720, 2022, 9160, 2023, 9620,
+            2024, 9860, 2025, 10030, 2026, 10320
+    ));
+
+    private static final int MAX_WEEKLY_HOURS = 52;
+
+    private final List<Function<ContractFields, Optional<Issue>>> rules = List.of(
+            this::minimumWage,
+            this::weeklyHours,
+            this::breakTime,
+            this::weeklyHolidayPay
+    );
+
+    public List<Issue> evaluate(String ocrText) {
+        ContractFields fields = ContractFields.extract(ocrText);
+        List<Issue> issues = new ArrayList<>();
+        for (Function<ContractFields, Optional<Issue>> rule : rules) {
+            rule.apply(fields).ifPresent(issues::add);
+        }
+        return issues;
+    }
+
+    private Optional<Issue> minimumWage(ContractFields fields) {
+        Extracted<Integer> wage = fields.hourlyWage();
+        if (wage == null) return Optional.empty();
+
+        int year = fields.contractStart() != null ? fields.contractStart().value().getYear() : LocalDate.now().getYear();
+        Map.Entry<Integer, Integer> minimum = MINIMUM_HOURLY_WAGE.floorEntry(year);
+        if (minimum == null) minimum = MINIMUM_HOURLY_WAGE.firstEntry();
+        if (wage.value() >= minimum.getValue()) return Optional.empty();
+
+        return Optional.of(new Issue("최저임금", String.format(
+                "최저임금법 제6조 위반: 계약 시급 %,d원이 %d년 최저시급 %,d원보다 낮습니다.",
+                wage.value(), year, minimum.getValue()), wage.evidence()));
+    }
+
+    private Optional<Issue> weeklyHours(ContractFields fields) {
+        Extracted<Integer> hours = fields.weeklyHours();
+        if (hours == null || hours.value() <= MAX_WEEKLY_HOURS) return Optional.empty();
+
+        return Optional.of(new Issue("근로시간", String.format(
+                "근로기준법 제50조·제53조 위반: 1주 근로시간은 40시간, 연장근로를 포함해도 %d시간을 넘을 수 없으나 주 %d시간으로 정해져 있습니다.",
+                MAX_WEEKLY_HOURS, hours.value()), hours.evidence()));
+    }
+
+    private Optional<Issue> breakTime(ContractFields fields) {
+        if (fields.dailySpanMinutes() == null) return Optional.empty();
+        int breakMinutes = fields.breakMinutes() != null ? fields.breakMinutes().value() : 0;
+        int workMinutes = fields.dailySpanMinutes().value() - breakMinutes;
+
+        int required = workMinutes >= 8 * 60 ? 60 : workMinutes >= 4 * 60 ? 30 : 0;
+        if (breakMinutes >= required) return Optional.empty();
+
+        String evidence = fields.breakMinutes() != null ? fields.breakMinutes().evidence() : fields.dailySpanMinutes().evidence();
+        return Optional.of(new Issue("근로시간", String.format(
+                "근로기준법 제54조 위반: 1일 근로시간 %d분에 대해 휴게시간은 %d분 이상이어야 하나 %d분만 부여됩니다.",
+                workMinutes, required, breakMinutes), evidence));
+    }
+
+    private Optional<Issue> weeklyHolidayPay(ContractFields fields) {
+        Extracted<Boolean> denied = fields.weeklyHolidayPayDenied();
+        if (denied == null) return Optional.empty();
+        // 주 15시간 미만 근로자는 주휴일 규정 적용 제외 (근로기준법 제18조 제3항)
+        if (fields.weeklyHours() != null && fields.weeklyHours().value() < 15) return Optional.empty();
+
+        return Optional.of(new Issue("근로시간",
+                "근로기준법 제55조 위반: 1주 소정근로일을 개근한 근로자에게는 유급 주휴일(주휴수당)을 주어야 합니다.",
+                denied.evidence()));
+    }
+}
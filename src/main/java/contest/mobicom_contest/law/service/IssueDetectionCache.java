@@ -0,0 +1,81 @@
+package contest.mobicom_contest.law.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import contest.mobicom_contest.contract.dto.Issue;
+import contest.mobicom_contest.law.model.DetectedIssues;
+import contest.mobicom_contest.law.model.DetectedIssuesRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * OCR 텍스트 지문(OcrFingerprint)별 detectUnfairClauses 결과 색인.
+ * 같은 표준근로계약서 양식처럼 내용이 같은 계약서는 GPT 호출 없이 이전 이슈를 재사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IssueDetectionCache {
+
+    private final DetectedIssuesRepository detectedIssuesRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 이슈 감지(프롬프트·규칙) 변경 시에만 올린다. 분석 결과 버전(pipeline-version)과 별도로 관리
+    @Value("${law.analysis.detection-version}")
+    private String detectionVersion;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        hits = meterRegistry.counter("law.issue.fingerprint", "result", "hit");
+        misses = meterRegistry.counter("law.issue.fingerprint", "result", "miss");
+    }
+
+    /**
+     * 매번 새 Issue 인스턴스를 돌려주므로 호출자가 번역 등으로 값을 바꿔도 색인에는 영향이 없다.
+     */
+    public Optional<List<Issue>> find(String ocrText) {
+        try {
+            Optional<DetectedIssues> stored = detectedIssuesRepository.findByFingerprintAndPipelineVersion(
+                    OcrFingerprint.of(ocrText), detectionVersion);
+            if (stored.isPresent()) {
+                hits.increment();
+                return Optional.of(objectMapper.readValue(stored.get().getIssuesJson(), new TypeReference<List<Issue>>() {
+                }));
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("이슈 색인 조회 실패: {}", e.getMessage());
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    // 번역으로 값이 바뀌기 전(한국어)에 호출해야 한다
+    public void store(String ocrText, List<Issue> issues) {
+        try {
+            detectedIssuesRepository.save(DetectedIssues.builder()
+                    .fingerprint(OcrFingerprint.of(ocrText))
+                    .pipelineVersion(detectionVersion)
+                    .issuesJson(objectMapper.writeValueAsString(issues))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (DataAccessException | JsonProcessingException e) {
+            // 같은 지문이 동시에 저장된 경우(uk_detected_issues_key) 등은 무시
+            log.warn("이슈 색인 저장 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package contest.mobicom_contest.law.service;
+
+import contest.mobicom_contest.contract.client.CallPriority;
+import contest.mobicom_contest.contract.client.LawApiClient;
+import contest.mobicom_contest.contract.client.OpenAiClient;
+import contest.mobicom_contest.contract.dto.LawArticle;
+import contest.mobicom_contest.contract.dto.LawSearchHit;
+import contest.mobicom_contest.law.dto.LawVersion;
+import contest.mobicom_contest.law.model.LawAmendment;
+import contest.mobicom_contest.law.model.LawAmendmentRepository;
+import contest.mobicom_contest.law.model.LawInfoRepository;
+import contest.mobicom_contest.law.model.LawSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 법령 개정 감지: 분석에 쓰인 법령 버전마다 law.go.kr 에서 같은 이름의 현행 법령을 찾아
+ * 법령일련번호·공포번호가 바뀌었는지 확인한다. 바뀐 법령만 새 본문을 받아 조문별 해시를 비교하고,
+ * 바뀐 조문이 발췌에 포함된 요약만 다시 만든다. 나머지 요약은 새 버전으로 그대로 옮긴다.
+ * 결과는 LawAmendment 테이블과 law.amendment.* 지표로 남는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LawAmendmentDetector {
+
+    // 같은 이름의 법령을 찾기 위한 검색 결과 수 (시행령·시행규칙 등 비슷한 이름이 함께 나온다)
+    private static final int SEARCH_RESULTS = 20;
+
+    private final LawApiClient lawApiClient;
+    private final LawInfoRepository lawInfoRepository;
+    private final LawAmendmentRepository lawAmendmentRepository;
+    private final LawTextCache lawTextCache;
+    private final LawSummaryCache lawSummaryCache;
+    private final LawCatalog lawCatalog;
+    private final OpenAiClient openAiClient;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${law.amendment.enabled:true}")
+    private boolean enabled;
+
+    @Scheduled(cron = "${law.amendment.cron:0 30 4 * * *}")
+    public void scheduledCheck() {
+        if (enabled) {
+            checkAll();
+        }
+    }
+
+    /**
+     * 추적 중인 모든 법령 버전을 확인하고 개정된 법령 수를 반환한다.
+     */
+    public int checkAll() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("법령 개정 확인이 이미 진행 중입니다.");
+            return 0;
+        }
+        try {
+            List<LawVersion> versions = lawInfoRepository.findDistinctLawVersions();
+            int amended = 0;
+            for (LawVersion version : versions) {
+                try {
+                    if (CallPriority.callAs(CallPriority.BACKGROUND, () -> check(version))) {
+                        amended++;
+                    }
+                } catch (Exception e) {
+                    log.warn("법령 개정 확인 실패 (law={}, MST={}): {}",
+                            version.lawName(), version.lawSerialNumber(), e.getMessage());
+                }
+            }
+            log.info("법령 개정 확인 완료: 법령 버전 {}개 중 개정 {}건", versions.size(), amended);
+            return amended;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean check(LawVersion version) {
+        Optional<LawSearchHit> current = findCurrent(version.lawName());
+        if (current.isEmpty()) return false;
+        LawSearchHit hit = current.get();
+        // 개정되면 공포번호와 함께 법령일련번호(MST)도 새로 부여되므로, 같은 MST 면 본문도 같다
+        if (Objects.equals(hit.lawSerialNumber(), version.lawSerialNumber())) {
+            return false;
+        }
+        if (lawAmendmentRepository.existsByPreviousSerialNumberAndCurrentSerialNumber(
+                version.lawSerialNumber(), hit.lawSerialNumber())) {
+            return false;
+        }
+
+        // 비교 기준이 될 이전 본문은 보관 기간이 지났어도 남아 있으면 사용
+        Optional<Map<String, String>> previous = lawTextCache.peek(version.lawSerialNumber()).map(this::hashByKey);
+        List<LawArticle> articles = lawTextCache.get(hit.lawSerialNumber(),
+                () -> lawApiClient.fetchLawArticles(hit.lawSerialNumber()));
+        if (articles.isEmpty()) {
+            log.warn("개정 법령 본문을 가져오지 못해 다음 확인으로 미룹니다 (law={}, MST={})",
+                    version.lawName(), hit.lawSerialNumber());
+            return false;
+        }
+        Map<String, String> next = hashByKey(articles);
+        Set<String> changed = previous.map(old -> changedKeys(old, next)).orElse(next.keySet());
+
+        int invalidated = 0;
+        int carried = 0;
+        int resummarized = 0;
+        for (LawSummary summary : lawSummaryCache.findByLaw(version.lawSerialNumber())) {
+            List<String> keys = LawSummaryCache.coveredKeys(summary);
+            // 조문 목록이 없는 이전 형식의 요약이나 비교 기준이 없는 경우는 다음 분석에서 새로 만든다
+            if (keys.isEmpty() || previous.isEmpty()) {
+                invalidated++;
+                continue;
+            }
+            if (keys.stream().noneMatch(changed::contains)) {
+                lawSummaryCache.carryOver(summary, hit.lawSerialNumber());
+                carried++;
+                continue;
+            }
+            invalidated++;
+            Set<String> covered = new HashSet<>(keys);
+            List<LawArticle> excerpt = articles.stream().filter(a -> covered.contains(a.key())).toList();
+            if (!excerpt.isEmpty()) {
+                lawSummaryCache.get(hit.lawSerialNumber(), excerpt, summary.getTargetLanguage(),
+                        text -> openAiClient.summarizeAndTranslate(text, summary.getTargetLanguage()));
+                resummarized++;
+            }
+        }
+        // 기록이 남은 뒤에만 이전 본문(비교 기준)을 지운다. 저장에 실패하면 다음 확인에서 다시 비교한다
+        if (!record(version, hit, changed.size(), invalidated, carried, resummarized)) {
+            return false;
+        }
+        // 분석 검색이 새 법령일련번호를 돌려줘야 옮겨 둔 요약이 쓰인다
+        lawCatalog.supersede(version.lawName(), hit);
+        lawTextCache.evict(version.lawSerialNumber());
+        return true;
+    }
+
+    private Optional<LawSearchHit> findCurrent(String lawName) {
+        return lawApiClient.searchLawCatalogPage(lawName, 1, SEARCH_RESULTS).stream()
+                .filter(hit -> lawName.equals(hit.lawName()))
+                .findFirst();
+    }
+
+    // 조문제목은 여러 조문이 같을 수 있으므로(벌칙·과태료 등) 조문키로 구분한다
+    private Map<String, String> hashByKey(List<LawArticle> articles) {
+        Map<String, String> hashes = new LinkedHashMap<>();
+        for (LawArticle article : articles) {
+            hashes.put(article.key(), ContentHash.sha256(article.text()));
+        }
+        return hashes;
+    }
+
+    // 내용이 바뀌었거나 삭제·신설된 조문
+    private static Set<String> changedKeys(Map<String, String> previous, Map<String, String> next) {
+        Set<String> changed = new HashSet<>();
+        previous.forEach((key, hash) -> {
+            if (!hash.equals(next.get(key))) changed.add(key);
+        });
+        for (String key : next.keySet()) {
+            if (!previous.containsKey(key)) changed.add(key);
+        }
+        return changed;
+    }
+
+    private boolean record(LawVersion version, LawSearchHit hit, int changedArticles,
+                           int invalidated, int carried, int resummarized) {
+        log.info("법령 개정 감지: {} (MST {} → {}, 공포번호 {} → {}), 변경 조문 {}개, 요약 무효 {}건 / 이전 {}건 / 재요약 {}건",
+                version.lawName(), version.lawSerialNumber(), hit.lawSerialNumber(),
+                version.referenceNumber(), hit.referenceNumber(), changedArticles, invalidated, carried, resummarized);
+        meterRegistry.counter("law.amendment.detected").increment();
+        meterRegistry.counter("law.amendment.summaries", "result", "invalidated").increment(invalidated);
+        meterRegistry.counter("law.amendment.summaries", "result", "carried").increment(carried);
+        meterRegistry.counter("law.amendment.summaries", "result", "resummarized").increment(resummarized);
+        try {
+            lawAmendmentRepository.save(LawAmendment.builder()
+                    .lawName(version.lawName())
+                    .previousSerialNumber(version.lawSerialNumber())
+                    .currentSerialNumber(hit.lawSerialNumber())
+                    .previousReferenceNumber(version.referenceNumber())
+                    .currentReferenceNumber(hit.referenceNumber())
+                    .changedArticles(changedArticles)
+                    .invalidatedSummaries(invalidated)
+                    .carriedSummaries(carried)
+                    .resummarized(resummarized)
+                    .detectedAt(LocalDateTime.now())
+                    .build());
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("법령 개정 기록 저장 실패 (law={}): {}", version.lawName(), e.getMessage());
+            return false;
+        }
+    }
+}
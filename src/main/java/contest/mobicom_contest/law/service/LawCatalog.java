@@ -0,0 +1,340 @@
+package contest.mobicom_contest.law.service;
+
+import contest.mobicom_contest.contract.client.LawApiClient;
+import contest.mobicom_contest.contract.dto.LawSearchHit;
+import contest.mobicom_contest.law.model.LawCatalogEntry;
+import contest.mobicom_contest.law.model.LawCatalogEntryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노동 관련 법령 목록을 미리 받아 두고 메모리 역색인(법령명·키워드의 2-gram)으로 검색하는 로컬 카탈로그.
+ * 분석 요청마다 lawSearch.do 를 부르지 않도록 하며, 로컬 검색 결과가 없는 검색어만 원격 검색으로 넘어간다.
+ * 목록은 LawCatalogEntry 테이블에 보관하고 주기적으로 다시 받아 온다. 같은 법령명은 최신 공포번호 한 건만 남긴다.
+ * 기동 시 적재는 ApplicationRunner 로 실행되어 준비(readiness) 상태 전환을 지연시킨다.
+ */
+@Slf4j
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class LawCatalog implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int MAX_PAGES = 20;
+
+    private final LawApiClient lawApiClient;
+    private final LawCatalogEntryRepository catalogRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 이슈 유형 매핑(QUERY_MAP) 외에 추가로 적재할 검색어
+    @Value("${law.catalog.queries:근로기준법,최저임금법,근로자퇴직급여 보장법,기간제 및 단시간근로자 보호 등에 관한 법률,외국인근로자의 고용 등에 관한 법률,산업안전보건법,산업재해보상보험법,남녀고용평등과 일ㆍ가정 양립 지원에 관한 법률,임금채권보장법}")
+    private String[] extraQueries;
+
+    @Value("${law.catalog.enabled:true}")
+    private boolean enabled;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Index index = Index.EMPTY;
+    private Timer refreshTimer;
+
+    @PostConstruct
+    void init() {
+        refreshTimer = meterRegistry.timer("law.catalog.refresh");
+        meterRegistry.gauge("law.catalog.size", this, catalog -> catalog.index.entries.size());
+    }
+
+    public boolean isReady() {
+        return !index.entries.isEmpty();
+    }
+
+    /**
+     * 검색어와 가장 잘 맞는 법령을 최대 limit 건 돌려준다.
+     * 법령명 일치 > 접두 일치 > 포함 > 키워드 일치 > 2-gram 유사도 순이며, 동점이면 짧은 법령명(본법)이 앞선다.
+     */
+    public List<LawSearchHit> search(String query, int limit) {
+        Index current = index;
+        String normalized = normalize(query);
+        if (current.entries.isEmpty() || normalized.length() < 2) return List.of();
+
+        Map<Integer, Integer> shared = new HashMap<>();
+        Set<String> queryGrams = bigrams(normalized);
+        for (String gram : queryGrams) {
+            for (int id : current.postings.getOrDefault(gram, List.of())) {
+                shared.merge(id, 1, Integer::sum);
+            }
+        }
+
+        List<Map.Entry<Integer, Double>> scored = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> candidate : shared.entrySet()) {
+            double score = score(current.entries.get(candidate.getKey()), normalized,
+                    candidate.getValue(), queryGrams.size());
+            if (score > 0) {
+                scored.add(Map.entry(candidate.getKey(), score));
+            }
+        }
+        return scored.stream()
+                .sorted(Comparator.<Map.Entry<Integer, Double>>comparingDouble(Map.Entry::getValue).reversed()
+                        .thenComparingInt(e -> current.entries.get(e.getKey()).name.length()))
+                .limit(limit)
+                .map(e -> current.entries.get(e.getKey()).hit)
+                .toList();
+    }
+
+    // 기동 시 (준비 완료 보고 전, 워밍업보다 먼저) 테이블에서 색인을 만들고, 비어 있으면 원격에서 적재
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) return;
+        try {
+            rebuild(catalogRepository.findAll());
+        } catch (DataAccessException e) {
+            log.warn("법령 카탈로그 로드 실패: {}", e.getMessage());
+        }
+        if (!isReady()) {
+            refresh();
+        }
+    }
+
+    @Scheduled(cron = "${law.catalog.refresh-cron:0 0 4 * * MON}")
+    public void scheduledRefresh() {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    /**
+     * law.go.kr 에서 검색어별 목록을 페이지 단위로 전부 받아 테이블에 반영하고 색인을 다시 만든다.
+     * 모든 검색어를 받아 온 경우에만 이번 목록에 없는(폐지·개정으로 대체된) 항목을 지우며,
+     * 한 검색어라도 실패하면 기존 카탈로그를 그대로 유지한다.
+     */
+    public void refresh() {
+        if (!refreshLock.tryLock()) {
+            log.info("법령 카탈로그 갱신이 이미 진행 중입니다.");
+            return;
+        }
+        try {
+            refreshTimer.record(() -> {
+                Map<String, LawCatalogEntry> fetched = fetchAll();
+                if (fetched == null) return;
+                List<LawCatalogEntry> latest = latestPerName(fetched.values());
+                Set<String> kept = new HashSet<>();
+                latest.forEach(entry -> kept.add(entry.getLawSerialNumber()));
+                List<String> retired = catalogRepository.findAll().stream()
+                        .map(LawCatalogEntry::getLawSerialNumber)
+                        .filter(serial -> !kept.contains(serial))
+                        .toList();
+                catalogRepository.saveAll(latest);
+                catalogRepository.deleteAllByIdInBatch(retired);
+                rebuild(catalogRepository.findAll());
+                if (!retired.isEmpty()) {
+                    log.info("법령 카탈로그에서 대체·폐지된 항목 {}건 삭제", retired.size());
+                }
+                log.info("법령 카탈로그 갱신 완료: {}건", index.entries.size());
+            });
+        } catch (DataAccessException e) {
+            log.error("법령 카탈로그 저장 실패: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 개정으로 새 법령일련번호가 확인된 법령을 카탈로그에서 바로 교체한다.
+     * 같은 이름의 이전 항목은 지우고 검색 키워드는 새 항목으로 옮긴다.
+     */
+    public void supersede(String lawName, LawSearchHit current) {
+        if (!enabled) return;
+        refreshLock.lock();
+        try {
+            List<LawCatalogEntry> previous = catalogRepository.findByLawName(lawName);
+            String keywords = null;
+            for (LawCatalogEntry entry : previous) {
+                if (StringUtils.hasText(entry.getKeywords())) {
+                    keywords = mergeKeywords(keywords, new LinkedHashSet<>(Arrays.asList(entry.getKeywords().split(","))));
+                }
+            }
+            catalogRepository.save(LawCatalogEntry.builder()
+                    .lawSerialNumber(current.lawSerialNumber())
+                    .lawName(current.lawName())
+                    .referenceNumber(current.referenceNumber())
+                    .detailUrl(current.detailUrl())
+                    .keywords(keywords)
+                    .refreshedAt(LocalDateTime.now())
+                    .build());
+            catalogRepository.deleteAllByIdInBatch(previous.stream()
+                    .map(LawCatalogEntry::getLawSerialNumber)
+                    .filter(serial -> !serial.equals(current.lawSerialNumber()))
+                    .toList());
+            rebuild(catalogRepository.findAll());
+        } catch (DataAccessException e) {
+            log.error("법령 카탈로그 교체 실패 (law={}): {}", lawName, e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Map<String, LawCatalogEntry> fetchAll() {
+        Map<String, Set<String>> keywordsByQuery = new LinkedHashMap<>();
+        lawApiClient.issueQueries().forEach((issueType, query) ->
+                keywordsByQuery.computeIfAbsent(query, q -> new LinkedHashSet<>(List.of(q))).add(issueType));
+        Arrays.stream(extraQueries).map(String::trim).filter(StringUtils::hasText)
+                .forEach(query -> keywordsByQuery.computeIfAbsent(query, q -> new LinkedHashSet<>(List.of(q))));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, LawCatalogEntry> entries = new LinkedHashMap<>();
+        for (Map.Entry<String, Set<String>> query : keywordsByQuery.entrySet()) {
+            try {
+                for (int page = 1; page <= MAX_PAGES; page++) {
+                    List<LawSearchHit> hits = lawApiClient.searchLawCatalogPage(query.getKey(), page, PAGE_SIZE);
+                    for (LawSearchHit hit : hits) {
+                        if (!StringUtils.hasText(hit.lawSerialNumber())) continue;
+                        LawCatalogEntry entry = entries.computeIfAbsent(hit.lawSerialNumber(), serial ->
+                                LawCatalogEntry.builder()
+                                        .lawSerialNumber(serial)
+                                        .lawName(hit.lawName())
+                                        .referenceNumber(hit.referenceNumber())
+                                        .detailUrl(hit.detailUrl())
+                                        .refreshedAt(now)
+                                        .build());
+                        entry.setKeywords(mergeKeywords(entry.getKeywords(), query.getValue()));
+                    }
+                    if (hits.size() < PAGE_SIZE) break;
+                }
+            } catch (Exception e) {
+                log.error("법령 카탈로그 조회 실패 (query={}): {}", query.getKey(), e.getMessage());
+                return null;
+            }
+        }
+        return entries;
+    }
+
+    private static String mergeKeywords(String existing, Set<String> added) {
+        Set<String> merged = new LinkedHashSet<>();
+        if (StringUtils.hasText(existing)) {
+            merged.addAll(Arrays.asList(existing.split(",")));
+        }
+        merged.addAll(added);
+        return String.join(",", merged);
+    }
+
+    /**
+     * 같은 법령명의 여러 버전 중 공포번호(같으면 법령일련번호)가 가장 큰 항목만 남기고,
+     * 나머지 항목의 검색 키워드는 남는 항목에 합친다.
+     */
+    static List<LawCatalogEntry> latestPerName(Collection<LawCatalogEntry> entries) {
+        Map<String, LawCatalogEntry> latest = new LinkedHashMap<>();
+        for (LawCatalogEntry entry : entries) {
+            latest.merge(normalize(entry.getLawName()), entry, (kept, other) -> {
+                LawCatalogEntry newer = isNewer(other, kept) ? other : kept;
+                LawCatalogEntry older = newer == kept ? other : kept;
+                if (StringUtils.hasText(older.getKeywords())) {
+                    newer.setKeywords(mergeKeywords(newer.getKeywords(),
+                            new LinkedHashSet<>(Arrays.asList(older.getKeywords().split(",")))));
+                }
+                return newer;
+            });
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    private static boolean isNewer(LawCatalogEntry candidate, LawCatalogEntry current) {
+        int byReference = Long.compare(number(candidate.getReferenceNumber()), number(current.getReferenceNumber()));
+        if (byReference != 0) return byReference > 0;
+        return number(candidate.getLawSerialNumber()) > number(current.getLawSerialNumber());
+    }
+
+    private static long number(String value) {
+        if (!StringUtils.hasText(value)) return -1;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // 테이블에 이전 버전이 남아 있어도(갱신 전 등) 색인에는 최신 버전만 올린다
+    private void rebuild(List<LawCatalogEntry> stored) {
+        List<LawCatalogEntry> latest = latestPerName(stored);
+        List<Indexed> entries = new ArrayList<>(latest.size());
+        Map<String, List<Integer>> postings = new HashMap<>();
+        for (LawCatalogEntry entry : latest) {
+            Set<String> keywords = new LinkedHashSet<>();
+            if (StringUtils.hasText(entry.getKeywords())) {
+                Arrays.stream(entry.getKeywords().split(",")).map(LawCatalog::normalize).forEach(keywords::add);
+            }
+            Indexed indexed = new Indexed(
+                    new LawSearchHit(entry.getLawName(), entry.getLawSerialNumber(),
+                            entry.getReferenceNumber(), entry.getDetailUrl()),
+                    normalize(entry.getLawName()), keywords);
+
+            int id = entries.size();
+            entries.add(indexed);
+            Set<String> grams = bigrams(indexed.name);
+            keywords.forEach(keyword -> grams.addAll(bigrams(keyword)));
+            grams.forEach(gram -> postings.computeIfAbsent(gram, g -> new ArrayList<>()).add(id));
+        }
+        index = new Index(List.copyOf(entries), postings);
+    }
+
+    private static double score(Indexed entry, String query, int sharedGrams, int queryGrams) {
+        if (entry.name.equals(query)) return 1000;
+        if (entry.name.startsWith(query)) return 500;
+        if (entry.name.contains(query)) return 300;
+        if (entry.keywords.contains(query)) return 200;
+        // 2-gram Dice 계수: 절반 이상 겹칠 때만 후보로 인정
+        double dice = 2.0 * sharedGrams / (queryGrams + Math.max(1, entry.name.length() - 1));
+        return dice >= 0.5 ? dice * 100 : 0;
+    }
+
+    // 공백·가운뎃점 차이(예: "일ㆍ가정" / "일·가정")를 무시하고 비교
+    static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Set<String> bigrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private record Indexed(LawSearchHit hit, String name, Set<String> keywords) {
+    }
+
+    private record Index(List<Indexed> entries, Map<String, List<Integer>> postings) {
+        static final Index EMPTY = new Index(List.of(), Map.of());
+    }
+}
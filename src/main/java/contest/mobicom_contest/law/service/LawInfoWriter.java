@@ -0,0 +1,26 @@
+package contest.mobicom_contest.law.service;
+
+import contest.mobicom_contest.law.model.LawInfo;
+import contest.mobicom_contest.law.model.LawInfoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 계약서의 법령 정보를 새 분석 결과로 교체한다. 삭제와 저장을 한 트랜잭션으로 묶어
+ * 저장이 실패하면 이전 분석의 법령 정보가 그대로 남는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LawInfoWriter {
+
+    private final LawInfoRepository lawInfoRepository;
+
+    @Transactional
+    public void replace(Long contractId, List<LawInfo> laws) {
+        lawInfoRepository.deleteByContractContractId(contractId);
+        lawInfoRepository.saveAll(laws);
+    }
+}
@@ -3,22 +3,42 @@ package contest.mobicom_contest.law.service;
 import contest.mobicom_contest.contract.client.LawApiClient;
 import contest.mobicom_contest.contract.client.OpenAiClient;
 import contest.mobicom_contest.contract.dto.Issue;
+import contest.mobicom_contest.contract.dto.LawArticle;
+import contest.mobicom_contest.contract.dto.LawSearchHit;
 import contest.mobicom_contest.contract.model.Contract;
 import contest.mobicom_contest.contract.model.ContractRepository;
+import contest.mobicom_contest.law.dto.AnalysisStage;
 import contest.mobicom_contest.law.dto.LawAnalyzeDto;
 import contest.mobicom_contest.law.dto.LawInfoDTO;
 import contest.mobicom_contest.law.model.LawInfo;
 import contest.mobicom_contest.law.model.LawInfoRepository;
 import contest.mobicom_contest.member.model.Member;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,12 +46,54 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LawService {
 
+    // 이슈 유형별로 가져올 법령 수 (기존 lawSearch.do numOfRows 와 동일)
+    static final int CATALOG_RESULTS = 3;
+
     private final LawInfoRepository lawInfoRepository;
+    private final LawInfoWriter lawInfoWriter;
     private final OpenAiClient openAiClient;
     private final LawApiClient lawApiClient;
     private final ContractRepository contractRepository;
+    private final LawTextCache lawTextCache;
+    private final LawSummaryCache lawSummaryCache;
+    private final AnalysisResultStore analysisResultStore;
+    private final IssueDetectionCache issueDetectionCache;
+    private final ContractRuleEngine contractRuleEngine;
+    private final LawCatalog lawCatalog;
+    private final ArticleRanker articleRanker;
+
+    @Qualifier("analysisExecutor")
+    private final ExecutorService analysisExecutor;
+
+    // 로컬 규칙이 이슈를 하나라도 찾으면 GPT 감지를 생략할지 여부
+    @Value("${law.rules.skip-gpt-when-matched:false}")
+    private boolean skipGptWhenRulesMatch;
+
+    @Value("${law.analysis.parallelism.law-api:4}")
+    private int lawApiParallelism;
+
+    @Value("${law.analysis.parallelism.openai:8}")
+    private int openAiParallelism;
+
+    // 외부 API별 동시 호출 수 제한 (모든 분석 요청이 공유)
+    private Semaphore lawApiPermits;
+    private Semaphore openAiPermits;
+
+    @PostConstruct
+    void initPermits() {
+        lawApiPermits = new Semaphore(lawApiParallelism, true);
+        openAiPermits = new Semaphore(openAiParallelism, true);
+    }
 
     public LawAnalyzeDto analyzeLegalIssues(Long contractId) throws Exception {
+        return analyzeLegalIssues(contractId, false, AnalysisListener.NONE);
+    }
+
+    /**
+     * 같은 (계약서, OCR 텍스트, 언어, 파이프라인 버전) 의 결과가 저장되어 있으면 그대로 반환하고,
+     * force 이거나 저장된 결과가 없을 때만 전체 분석을 실행한다.
+     */
+    public LawAnalyzeDto analyzeLegalIssues(Long contractId, boolean force, AnalysisListener listener) throws Exception {
         Contract contract = contractRepository.findById(contractId)
                 .orElseThrow(() -> new IllegalArgumentException("계약서 없음"));
 
@@ -40,62 +102,340 @@ public class LawService {
                 ? "English"
                 : member.getLanguage();
 
+        return analysisResultStore.getOrCompute(contract.getContractId(), contract.getOcrText(), targetLanguage,
+                force, listener, () -> runAnalysis(contract, targetLanguage, listener));
+    }
+
+    private LawAnalyzeDto runAnalysis(Contract contract, String targetLanguage, AnalysisListener listener)
+            throws Exception {
+
         // 1. AI를 통해 계약서에서 한국어로 된 법적 쟁점(issue) 감지
-        List<Issue> issues = openAiClient.detectUnfairClauses(contract.getOcrText());
-        Map<Issue, List<LawInfo>> issueLawMap = new HashMap<>();
+        // 2. 요청 단위 계획: 같은 검색어(QUERY_MAP)로 귀결되는 이슈는 한 번만 검색하고,
+        //    여러 검색 결과에 같은 법령(MST)이 나오면 본문 조회·요약도 한 번만 수행한다.
+        //    GPT 응답을 스트리밍으로 받으므로 이슈가 하나 완성될 때마다(번역 전 원본 'type'으로) 바로 검색을 시작한다.
+        //    onIssue 콜백은 응답을 읽는 현재 스레드에서 순서대로 호출된다.
+        //    본문 조회는 바로 시작하지만, 요약은 연결된 쟁점이 모두 정해진 뒤 관련 조문만 골라서 한다.
+        listener.onStage(AnalysisStage.DETECTING_ISSUES);
+        LawProgress progress = new LawProgress(listener);
+        Map<String, List<Integer>> issueIndexesByQuery = new LinkedHashMap<>();
+        Map<Integer, String> rankingTextByIssue = new HashMap<>();
+        Map<String, PlannedLaw> lawsBySerial = new ConcurrentHashMap<>();
+        Map<String, CompletableFuture<List<String>>> searches = new LinkedHashMap<>();
+        AtomicInteger detected = new AtomicInteger();
+        // 법령 API 실패로 일부 법령이 빠진 결과인지 여부
+        AtomicBoolean degraded = new AtomicBoolean();
+        Consumer<Issue> onIssue = issue -> {
+            int index = detected.getAndIncrement();
+            String issueType = issue.getType();
+            if (!StringUtils.hasText(issueType)) return;
+            // 번역으로 이슈 필드가 바뀌기 전에 조문 검색용 원문(근거·사유)을 보관
+            rankingTextByIssue.put(index, issue.getEvidence() + "\n" + issue.getReason());
+            String query = lawApiClient.resolveQuery(issueType);
+            issueIndexesByQuery.computeIfAbsent(query, q -> new ArrayList<>()).add(index);
+            searches.computeIfAbsent(query, q -> CompletableFuture
+                    .supplyAsync(() -> searchLaws(issueType, contract, degraded), analysisExecutor)
+                    .thenApply(found -> scheduleLaws(found, lawsBySerial, progress, degraded)));
+        };
 
-        for (Issue issue : issues) {
-            // 2. 번역하기 전, 원본 'type'(한글)으로 먼저 법률을 검색
-            List<LawInfo> laws = lawApiClient.searchRelatedLaws(issue.getType(), contract);
-
-            // 3. 검색된 각 법률의 내용을 처리
-            laws.forEach(law -> {
-                try {
-                    String lawContent = lawApiClient.fetchLawDetailByApi(law.getLawSerialNumber());
-                    if (!StringUtils.hasText(lawContent)) {
-                        log.warn("법률 '{}'의 상세 내용을 API로 가져오지 못했습니다. 분석을 건너뜁니다.", law.getLawName());
-                        return;
+        // 같은(정규화 기준) 계약서 텍스트가 이미 분석된 적이 있으면 GPT 호출 없이 그 이슈를 재사용
+        List<Issue> issues = new ArrayList<>();
+        Consumer<Issue> collect = issue -> {
+            issues.add(issue);
+            // 이후 번역이 같은 객체를 고치므로 감지 시점의 원문은 복사본으로 전달한다
+            listener.onIssue(issues.size() - 1, new Issue(issue.getType(), issue.getReason(), issue.getEvidence()));
+            onIssue.accept(issue);
+        };
+        Optional<List<Issue>> known = issueDetectionCache.find(contract.getOcrText());
+        if (known.isPresent()) {
+            known.get().forEach(collect);
+        } else {
+            detectIssues(contract.getOcrText(), collect);
+            if (!issues.isEmpty()) {
+                issueDetectionCache.store(contract.getOcrText(), issues);
+            }
+        }
+        listener.onStage(AnalysisStage.SEARCHING_LAWS);
+
+        // 3. issues 내부 필드 번역은 법령 처리와 독립적이므로 한 번의 배치 요청으로 동시에 진행하고,
+        //    번역이 끝나면 같은 인덱스로 번역본을 다시 전달한다.
+        CompletableFuture<Void> issueTranslation = isKorean(targetLanguage)
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.runAsync(() -> {
+                    translateIssues(issues, targetLanguage);
+                    for (int i = 0; i < issues.size(); i++) {
+                        listener.onIssue(i, issues.get(i));
                     }
-                    law.setTranslatedLawName(openAiClient.translateText(law.getLawName(), targetLanguage));
-                    String summary = openAiClient.summarizeAndTranslate(lawContent, targetLanguage);
-                    law.setTranslatedSummary(summary);
-                    law.setContract(contract);
-                } catch (Exception e) {
-                    log.error("법령 상세 조회 또는 AI 처리 실패: law={}, error={}", law.getLawName(), e.getMessage());
-                }
-            });
+                }, analysisExecutor);
+
+        // 실패한 분기가 있어도 나머지가 끝날 때까지 기다린 뒤 결과를 모은다 (검색어 → 법령 순서 유지)
+        CompletableFuture.allOf(searches.values().toArray(CompletableFuture[]::new)).join();
+        Map<String, Set<Integer>> issueIndexesBySerial = new LinkedHashMap<>();
+        searches.forEach((query, search) -> search.join().forEach(serial -> issueIndexesBySerial
+                .computeIfAbsent(serial, k -> new TreeSet<>())
+                .addAll(issueIndexesByQuery.get(query))));
+
+        // 4. 법령명은 검색된 법령 전체를 한 번의 배치 요청으로 번역하며, 요약과 동시에 진행한다
+        CompletableFuture<Map<String, String>> lawNames = CompletableFuture.supplyAsync(
+                        () -> translateLawNames(issueIndexesBySerial.keySet(), lawsBySerial, targetLanguage),
+                        analysisExecutor)
+                // 번역이 실패해도 법령 요약은 버리지 않고 한국어 법령명으로 내보낸다
+                .exceptionally(e -> {
+                    log.error("법령명 번역 실패: error={}", e.getMessage());
+                    degraded.set(true);
+                    return Map.of();
+                });
+
+        // 법령마다 연결된 쟁점의 근거·사유로 조문을 골라 요약하고, 요약과 법령명 번역이 끝나는 대로
+        // 관련 이슈 인덱스와 함께 리스너에 전달
+        listener.onStage(AnalysisStage.SUMMARIZING_LAWS);
+        Map<String, CompletableFuture<LawInfo>> summariesBySerial = new LinkedHashMap<>();
+        Map<String, CompletableFuture<LawInfoDTO>> lawDtosBySerial = new LinkedHashMap<>();
+        issueIndexesBySerial.forEach((serial, indexes) -> {
+            PlannedLaw planned = lawsBySerial.get(serial);
+            String rankingText = indexes.stream()
+                    .map(rankingTextByIssue::get)
+                    .collect(Collectors.joining("\n"));
+            CompletableFuture<LawInfo> summary = planned.articles()
+                    .thenApplyAsync(articles -> summarizeLaw(planned.law(), articles, rankingText,
+                            contract, targetLanguage), analysisExecutor)
+                    .whenComplete((result, error) -> progress.completed());
+            summariesBySerial.put(serial, summary);
+            lawDtosBySerial.put(serial, summary.thenCombine(lawNames, (law, names) -> {
+                if (law == null) return null;
+                law.setTranslatedLawName(names.getOrDefault(serial, law.getLawName()));
+                LawInfoDTO dto = new LawInfoDTO(law, new ArrayList<>(indexes));
+                listener.onLaw(dto);
+                return dto;
+            }));
+        });
+        CompletableFuture.allOf(lawDtosBySerial.values().toArray(CompletableFuture[]::new)).join();
 
-            try {
-                List<LawInfo> validLaws = laws.stream()
-                        .filter(l -> l.getTranslatedSummary() != null && !l.getTranslatedSummary().isBlank())
-                        .collect(Collectors.toList());
-                lawInfoRepository.saveAll(validLaws);
-                issueLawMap.put(issue, validLaws);
-            } catch (DataIntegrityViolationException e) {
-                log.error("DB 저장 실패: {}", e.getRootCause() != null ? e.getRootCause().getMessage() : e.getMessage());
-                throw new RuntimeException("법령 정보 저장 실패", e);
+        List<LawInfo> validLaws = new ArrayList<>();
+        List<LawInfoDTO> lawDtos = new ArrayList<>();
+        lawDtosBySerial.forEach((serial, dto) -> {
+            if (dto.join() != null) {
+                validLaws.add(summariesBySerial.get(serial).join());
+                lawDtos.add(dto.join());
             }
+        });
+
+        listener.onStage(AnalysisStage.TRANSLATING);
+        issueTranslation.join();
+
+        LawAnalyzeDto result = new LawAnalyzeDto(contract.getContractId(), issues, lawDtos);
+        result.setDegraded(degraded.get());
+
+        // 재분석 시 이전 분석에서 저장된 법령 정보는 새 결과로 교체.
+        // 법령 API 장애로 빠진 법령이 있는 결과로는 기존 정보를 덮어쓰지 않는다.
+        listener.onStage(AnalysisStage.SAVING);
+        if (result.isDegraded()) {
+            log.warn("법령 API 장애로 일부 법령이 누락되어 법령 정보를 저장하지 않습니다: contractId={}",
+                    contract.getContractId());
+            return result;
         }
+        try {
+            lawInfoWriter.replace(contract.getContractId(), validLaws);
+        } catch (DataIntegrityViolationException e) {
+            log.error("DB 저장 실패: {}", e.getRootCause() != null ? e.getRootCause().getMessage() : e.getMessage());
+            throw new RuntimeException("법령 정보 저장 실패", e);
+        }
+
+        return result;
+    }
 
-        // 4. 모든 법률 처리가 끝난 후, 최종적으로 issues 내부 필드들을 번역
-        if (!"Korean".equalsIgnoreCase(targetLanguage) && !"ko".equalsIgnoreCase(targetLanguage)) {
-             for (Issue issue : issues) {
-                 issue.setType(openAiClient.translateText(issue.getType(), targetLanguage));
-                 issue.setReason(openAiClient.translateText(issue.getReason(), targetLanguage));
-                 issue.setEvidence(openAiClient.translateText(issue.getEvidence(), targetLanguage));
-             }
+    /**
+     * 로컬 규칙으로 판정 가능한 이슈를 먼저 내보내고, 나머지는 GPT 로 감지한다.
+     * 규칙이 이미 찾은 이슈(유형·근거)는 GPT 에 제외하도록 알리고, 그래도 같은 이슈가 응답에 포함되면 버린다.
+     * 유형이 같아도 근거가 다른 조항은 별개의 이슈로 남긴다.
+     */
+    private void detectIssues(String ocrText, Consumer<Issue> sink) throws Exception {
+        List<Issue> ruleIssues = contractRuleEngine.evaluate(ocrText);
+        ruleIssues.forEach(sink);
+        if (skipGptWhenRulesMatch && !ruleIssues.isEmpty()) {
+            log.info("로컬 규칙으로 이슈 {}건을 판정하여 GPT 감지를 생략합니다.", ruleIssues.size());
+            return;
         }
 
-        return new LawAnalyzeDto(
-                contract.getContractId(),
-                issues,
-                issueLawMap.values().stream()
-                        .flatMap(List::stream)
-                        .map(LawInfoDTO::new)
-                        .collect(Collectors.toList())
-        );
+        openAiClient.detectUnfairClauses(ocrText, ruleIssues, issue -> {
+            if (ruleIssues.stream().noneMatch(known -> isSameIssue(known, issue))) {
+                sink.accept(issue);
+            }
+        });
+    }
+
+    // 유형이 같고 근거 인용이 겹치면(공백 무시, 한쪽이 다른 쪽을 포함) 같은 조항에 대한 이슈로 본다
+    private static boolean isSameIssue(Issue known, Issue issue) {
+        if (!Objects.equals(known.getType(), issue.getType())) return false;
+        String a = compactEvidence(known);
+        String b = compactEvidence(issue);
+        return !a.isEmpty() && !b.isEmpty() && (a.contains(b) || b.contains(a));
+    }
+
+    private static String compactEvidence(Issue issue) {
+        return issue.getEvidence() == null ? "" : issue.getEvidence().replaceAll("\\s+", "");
+    }
+
+    private List<LawInfo> searchLaws(String issueType, Contract contract, AtomicBoolean degraded) {
+        // 로컬 카탈로그가 적재돼 있으면 원격 검색 없이 바로 해결
+        List<LawSearchHit> local = lawCatalog.search(lawApiClient.resolveQuery(issueType), CATALOG_RESULTS);
+        if (!local.isEmpty()) {
+            return local.stream().map(hit -> hit.toLawInfo(contract)).toList();
+        }
+        try {
+            return withLawApiPermit(() -> lawApiClient.searchRelatedLaws(issueType, contract));
+        } catch (Exception e) {
+            log.error("법령 검색 실패: issue={}, error={}", issueType, e.getMessage());
+            degraded.set(true);
+            return List.of();
+        }
     }
-    
+
+    /**
+     * 검색된 법령마다 본문(조문 목록) 조회를 예약한다. 이미 다른 검색어에서 예약된 MST 는 재사용하며,
+     * 검색 순서대로 MST 목록을 돌려준다.
+     */
+    private List<String> scheduleLaws(List<LawInfo> found, Map<String, PlannedLaw> lawsBySerial,
+                                      LawProgress progress, AtomicBoolean degraded) {
+        List<String> serials = new ArrayList<>();
+        for (LawInfo law : found) {
+            String serial = law.getLawSerialNumber();
+            if (!StringUtils.hasText(serial)) {
+                log.warn("법령일련번호가 없는 검색 결과를 건너뜁니다: {}", law.getLawName());
+                continue;
+            }
+            lawsBySerial.computeIfAbsent(serial, k -> {
+                progress.scheduled();
+                return new PlannedLaw(law,
+                        CompletableFuture.supplyAsync(() -> fetchArticles(law, degraded), analysisExecutor));
+            });
+            if (!serials.contains(serial)) {
+                serials.add(serial);
+            }
+        }
+        return serials;
+    }
+
+    private List<LawArticle> fetchArticles(LawInfo law, AtomicBoolean degraded) {
+        try {
+            return lawTextCache.get(law.getLawSerialNumber(),
+                    () -> withLawApiPermit(() -> lawApiClient.fetchLawArticles(law.getLawSerialNumber())));
+        } catch (Exception e) {
+            log.error("법령 본문 조회 실패: law={}, error={}", law.getLawName(), e.getMessage());
+            degraded.set(true);
+            return List.of();
+        }
+    }
+
+    /**
+     * 쟁점과 관련된 상위 조문만 발췌해 요약·번역한다. 요약 캐시 키는 (MST, 발췌 조문 집합, 언어)이다.
+     */
+    private LawInfo summarizeLaw(LawInfo law, List<LawArticle> articles, String rankingText,
+                                 Contract contract, String targetLanguage) {
+        if (articles.isEmpty()) {
+            log.warn("법률 '{}'의 상세 내용을 API로 가져오지 못했습니다. 분석을 건너뜁니다.", law.getLawName());
+            return null;
+        }
+        try {
+            List<LawArticle> excerpt = articleRanker.select(articles, rankingText);
+            law.setTranslatedSummary(lawSummaryCache.get(law.getLawSerialNumber(), excerpt, targetLanguage,
+                    text -> withOpenAiPermit(() -> openAiClient.summarizeAndTranslate(text, targetLanguage))));
+            law.setContract(contract);
+        } catch (Exception e) {
+            log.error("법령 AI 처리 실패: law={}, error={}", law.getLawName(), e.getMessage());
+            return null;
+        }
+        return StringUtils.hasText(law.getTranslatedSummary()) ? law : null;
+    }
+
+    private void translateIssues(List<Issue> issues, String targetLanguage) {
+        List<String> texts = new ArrayList<>();
+        for (Issue issue : issues) {
+            texts.add(issue.getType());
+            texts.add(issue.getReason());
+            texts.add(issue.getEvidence());
+        }
+        List<String> translated = translateAll(texts, targetLanguage);
+        for (int i = 0; i < issues.size(); i++) {
+            Issue issue = issues.get(i);
+            issue.setType(translated.get(i * 3));
+            issue.setReason(translated.get(i * 3 + 1));
+            issue.setEvidence(translated.get(i * 3 + 2));
+        }
+    }
+
+    // MST → 번역된 법령명. 요약이 실패할 법령까지 포함하지만 요약을 기다리지 않고 한 번에 보낼 수 있다
+    private Map<String, String> translateLawNames(Set<String> serials, Map<String, PlannedLaw> lawsBySerial,
+                                                  String targetLanguage) {
+        List<String> names = serials.stream().map(serial -> lawsBySerial.get(serial).law().getLawName()).toList();
+        List<String> translated = isKorean(targetLanguage) ? names : translateAll(names, targetLanguage);
+        Map<String, String> bySerial = new HashMap<>();
+        int i = 0;
+        for (String serial : serials) {
+            bySerial.put(serial, translated.get(i++));
+        }
+        return bySerial;
+    }
+
+    private List<String> translateAll(List<String> texts, String targetLanguage) {
+        if (texts.isEmpty()) return texts;
+        return withOpenAiPermit(() -> openAiClient.translateAll(texts, targetLanguage));
+    }
+
+    private <T> T withPermit(Semaphore permits, Callable<T> call) throws Exception {
+        permits.acquire();
+        try {
+            return call.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private <T> T withLawApiPermit(Callable<T> call) {
+        try {
+            return withPermit(lawApiPermits, call);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("법령 API 호출 실패", e);
+        }
+    }
+
+    private <T> T withOpenAiPermit(Callable<T> call) {
+        try {
+            return withPermit(openAiPermits, call);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("OpenAI 호출 실패", e);
+        }
+    }
+
+    static boolean isKorean(String targetLanguage) {
+        return "Korean".equalsIgnoreCase(targetLanguage) || "ko".equalsIgnoreCase(targetLanguage);
+    }
+
+    // 본문 조회가 예약된 법령 (검색 결과 LawInfo 와 조문 목록 future)
+    private record PlannedLaw(LawInfo law, CompletableFuture<List<LawArticle>> articles) {
+    }
+
+    private static final class LawProgress {
+        private final AnalysisListener listener;
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger completed = new AtomicInteger();
+
+        private LawProgress(AnalysisListener listener) {
+            this.listener = listener;
+        }
+
+        private void scheduled() {
+            listener.onLawProcessed(completed.get(), total.incrementAndGet());
+        }
+
+        private void completed() {
+            listener.onLawProcessed(completed.incrementAndGet(), total.get());
+        }
+    }
+
     public List<LawInfo> getLawsByContractId(Long contractId) {
         return lawInfoRepository.findByContractContractId(contractId);
     }
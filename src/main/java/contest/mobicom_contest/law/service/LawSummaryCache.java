@@ -0,0 +1,137 @@
+package contest.mobicom_contest.law.service;
+
+import contest.mobicom_contest.contract.client.SingleFlight;
+import contest.mobicom_contest.contract.dto.LawArticle;
+import contest.mobicom_contest.law.model.LawSummary;
+import contest.mobicom_contest.law.model.LawSummaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * (법령일련번호, 발췌 조문 집합, 대상 언어) 기준 법령 요약 저장소.
+ * 저장된 요약이 없을 때만 GPT 요약을 실행하며, 같은 키의 동시 요청은 하나의 요약 결과를 기다린다.
+ * <p>
+ * 법령일련번호(MST)는 개정마다 바뀌므로 같은 MST 의 같은 조문은 본문도 같다. 그래서 발췌본 텍스트 대신
+ * 정렬한 조문키 목록의 해시를 키로 쓴다 (조문제목은 여러 조문이 같을 수 있어 쓰지 않는다).
+ * 쟁점 근거 문장이 계약서마다 달라도 BM25 상위 조문이 같으면 같은 요약을 쓴다.
+ * 상위 조문 구성이 달라지면 별도 요약이 생기며, 법령당 한 번이라는 이전 보장 대신 관련 조문만 요약하는 쪽을 택했다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LawSummaryCache {
+
+    private final LawSummaryRepository lawSummaryRepository;
+    private final MeterRegistry meterRegistry;
+
+    private SingleFlight<Key, String> summaries;
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        hits = meterRegistry.counter("law.summary.cache", "result", "hit");
+        misses = meterRegistry.counter("law.summary.cache", "result", "miss");
+        summaries = new SingleFlight<>(meterRegistry.counter("law.summary.cache", "result", "coalesced"));
+    }
+
+    /**
+     * 발췌 조문 기준 요약을 반환한다. summarizer 는 발췌본 텍스트를 받아 요약을 만든다.
+     */
+    public String get(String lawSerialNumber, List<LawArticle> excerpt, String targetLanguage,
+                      Function<String, String> summarizer) {
+        String content = excerptText(excerpt);
+        Key key = new Key(lawSerialNumber, ContentHash.sha256(articleSetKey(excerpt)), targetLanguage.trim());
+
+        Optional<String> stored = findStored(key);
+        if (stored.isPresent()) {
+            hits.increment();
+            return stored.get();
+        }
+
+        // 앞선 요청이 방금 저장했을 수 있으므로 합류한 뒤 한 번 더 확인
+        return summaries.execute(key, () -> findStored(key).orElseGet(() -> {
+            misses.increment();
+            String created = summarizer.apply(content);
+            if (StringUtils.hasText(created)) {
+                store(key, keys(excerpt), created);
+            }
+            return created;
+        }));
+    }
+
+    public List<LawSummary> findByLaw(String lawSerialNumber) {
+        return lawSummaryRepository.findByLawSerialNumber(lawSerialNumber);
+    }
+
+    /**
+     * 개정 후에도 발췌 조문이 그대로인 요약을 새 법령일련번호로 복사한다.
+     * 조문 집합이 같으므로 키도 같아 새 버전 분석에서 바로 캐시 적중한다.
+     */
+    public void carryOver(LawSummary summary, String lawSerialNumber) {
+        store(new Key(lawSerialNumber, summary.getContentHash(), summary.getTargetLanguage()),
+                summary.getArticleKeys(), summary.getSummary());
+    }
+
+    // 발췌 순서와 무관한 조문 집합 식별자. 길이를 앞에 붙여 서로 다른 집합이 같은 문자열이 되지 않게 한다
+    static String articleSetKey(List<LawArticle> excerpt) {
+        return excerpt.stream().map(LawArticle::key).sorted()
+                .map(key -> key.length() + ":" + key)
+                .collect(Collectors.joining());
+    }
+
+    static String excerptText(List<LawArticle> excerpt) {
+        return excerpt.stream().map(LawArticle::format).collect(Collectors.joining("\n"));
+    }
+
+    static List<String> coveredKeys(LawSummary summary) {
+        if (!StringUtils.hasText(summary.getArticleKeys())) return List.of();
+        return List.of(summary.getArticleKeys().split("\n"));
+    }
+
+    private static String keys(List<LawArticle> excerpt) {
+        return excerpt.stream().map(LawArticle::key).collect(Collectors.joining("\n"));
+    }
+
+    private Optional<String> findStored(Key key) {
+        try {
+            return lawSummaryRepository.findByLawSerialNumberAndContentHashAndTargetLanguage(
+                            key.lawSerialNumber(), key.contentHash(), key.targetLanguage())
+                    .map(LawSummary::getSummary);
+        } catch (DataAccessException e) {
+            log.warn("법령 요약 캐시 조회 실패 (MST={}): {}", key.lawSerialNumber(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(Key key, String articleKeys, String summary) {
+        try {
+            lawSummaryRepository.save(LawSummary.builder()
+                    .lawSerialNumber(key.lawSerialNumber())
+                    .contentHash(key.contentHash())
+                    .targetLanguage(key.targetLanguage())
+                    .articleKeys(articleKeys)
+                    .summary(summary)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 같은 키를 먼저 저장한 경우(uk_law_summary_key)에도 결과는 그대로 사용
+            log.warn("법령 요약 캐시 저장 실패 (MST={}): {}", key.lawSerialNumber(), e.getMessage());
+        }
+    }
+
+    private record Key(String lawSerialNumber, String contentHash, String targetLanguage) {
+    }
+}
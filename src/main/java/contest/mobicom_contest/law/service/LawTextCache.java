@@ -0,0 +1,176 @@
+package contest.mobicom_contest.law.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import contest.mobicom_contest.contract.dto.LawArticle;
+import contest.mobicom_contest.law.model.LawText;
+import contest.mobicom_contest.law.model.LawTextRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 법령일련번호(MST) 기준 법령 본문 캐시.
+ * 1차는 메모리(W-TinyLFU), 2차는 재시작 후에도 유지되는 LawText 테이블이며,
+ * 두 계층 모두 놓친 경우에만 loader(law.go.kr 호출)를 실행한다.
+ * 본문은 조문 목록(LawArticle)으로 다루며, 테이블에는 JSON 으로 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LawTextCache {
+
+    private static final TypeReference<List<LawArticle>> ARTICLES = new TypeReference<List<LawArticle>>() {
+    };
+
+    private final LawTextRepository lawTextRepository;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${law.cache.text.max-entries:200}")
+    private long maxEntries;
+
+    @Value("${law.cache.text.ttl:7d}")
+    private Duration ttl;
+
+    private Cache<String, CachedText> memory;
+    private Counter dbHits;
+    private Counter dbMisses;
+
+    @PostConstruct
+    void init() {
+        memory = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, CachedText>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedText value, long currentTime) {
+                        return value.remaining(ttl);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedText value, long currentTime,
+                                                  long currentDuration) {
+                        return value.remaining(ttl);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedText value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "law.text.memory");
+        dbHits = meterRegistry.counter("law.text.db", "result", "hit");
+        dbMisses = meterRegistry.counter("law.text.db", "result", "miss");
+    }
+
+    public List<LawArticle> get(String lawSerialNumber, Supplier<List<LawArticle>> loader) {
+        if (!StringUtils.hasText(lawSerialNumber)) return List.of();
+
+        CachedText cached = memory.getIfPresent(lawSerialNumber);
+        if (cached != null) {
+            return cached.articles();
+        }
+
+        // DB 행을 메모리로 올릴 때는 행의 조회 시각을 그대로 가져가 남은 보관 기간만큼만 유지한다
+        Optional<LawText> storedRow = findStored(lawSerialNumber);
+        Optional<List<LawArticle>> stored = storedRow.flatMap(this::readArticles);
+        if (stored.isPresent()) {
+            dbHits.increment();
+            memory.put(lawSerialNumber, new CachedText(stored.get(), storedRow.get().getFetchedAt()));
+            return stored.get();
+        }
+        dbMisses.increment();
+
+        List<LawArticle> articles = List.copyOf(loader.get());
+        if (!articles.isEmpty()) {
+            LocalDateTime fetchedAt = LocalDateTime.now();
+            memory.put(lawSerialNumber, new CachedText(articles, fetchedAt));
+            store(lawSerialNumber, articles, fetchedAt);
+        }
+        return articles;
+    }
+
+    /**
+     * 보관 기간과 무관하게 저장된 조문을 조회만 한다. 개정 전후 조문 비교에 사용.
+     */
+    public Optional<List<LawArticle>> peek(String lawSerialNumber) {
+        CachedText cached = memory.getIfPresent(lawSerialNumber);
+        if (cached != null) return Optional.of(cached.articles());
+        try {
+            return lawTextRepository.findById(lawSerialNumber).flatMap(this::readArticles);
+        } catch (DataAccessException e) {
+            log.warn("법령 본문 캐시 조회 실패 (MST={}): {}", lawSerialNumber, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void evict(String lawSerialNumber) {
+        memory.invalidate(lawSerialNumber);
+        lawTextRepository.deleteById(lawSerialNumber);
+    }
+
+    private Optional<LawText> findStored(String lawSerialNumber) {
+        try {
+            return lawTextRepository.findById(lawSerialNumber)
+                    .filter(text -> text.getFetchedAt().plus(ttl).isAfter(LocalDateTime.now()));
+        } catch (DataAccessException e) {
+            log.warn("법령 본문 캐시 조회 실패 (MST={}): {}", lawSerialNumber, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 조문 단위 저장 이전의 평문 행, 조문키가 없던 행 등 읽을 수 없는 내용은 캐시 미스로 취급해 다시 받아 온다
+    private Optional<List<LawArticle>> readArticles(LawText text) {
+        try {
+            List<LawArticle> articles = objectMapper.readValue(text.getContent(), ARTICLES);
+            if (articles.stream().anyMatch(article -> article.key() == null)) {
+                log.info("조문키가 없는 이전 형식의 법령 본문 캐시라 다시 조회합니다 (MST={})", text.getLawSerialNumber());
+                return Optional.empty();
+            }
+            return Optional.of(articles);
+        } catch (JsonProcessingException e) {
+            log.info("법령 본문 캐시 형식이 달라 다시 조회합니다 (MST={})", text.getLawSerialNumber());
+            return Optional.empty();
+        }
+    }
+
+    private void store(String lawSerialNumber, List<LawArticle> articles, LocalDateTime fetchedAt) {
+        try {
+            lawTextRepository.save(LawText.builder()
+                    .lawSerialNumber(lawSerialNumber)
+                    .content(objectMapper.writeValueAsString(articles))
+                    .fetchedAt(fetchedAt)
+                    .build());
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 동시 저장 등으로 실패해도 메모리 계층에는 남아 있으므로 분석은 계속 진행
+            log.warn("법령 본문 캐시 저장 실패 (MST={}): {}", lawSerialNumber, e.getMessage());
+        }
+    }
+
+    // 메모리 계층 항목. 만료는 조회 시각(fetchedAt) + ttl 로 DB 계층과 같은 시점이다
+    private record CachedText(List<LawArticle> articles, LocalDateTime fetchedAt) {
+        long remaining(Duration ttl) {
+            return Math.max(0, Duration.between(LocalDateTime.now(), fetchedAt.plus(ttl)).toNanos());
+        }
+    }
+}
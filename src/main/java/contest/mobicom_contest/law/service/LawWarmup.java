@@ -0,0 +1,141 @@
+package contest.mobicom_contest.law.service;
+
+import contest.mobicom_contest.contract.client.CallPriority;
+import contest.mobicom_contest.contract.client.LawApiClient;
+import contest.mobicom_contest.contract.client.OpenAiClient;
+import contest.mobicom_contest.contract.dto.LawSearchHit;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 기동 워밍업: 알려진 이슈 유형을 분석과 같은 경로(카탈로그 → searchRelatedLawHits)로 검색해 법령 본문을 캐시에 올리고,
+ * 설정된 언어로 법령명 번역을 미리 받아 둔다. ApplicationRunner 로 실행되므로 끝날 때까지
+ * 준비(readiness) 상태가 ACCEPTING_TRAFFIC 으로 바뀌지 않는다. timeout 을 넘기면 나머지는 백그라운드에서 계속한다.
+ */
+@Slf4j
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class LawWarmup implements ApplicationRunner {
+
+    private final LawApiClient lawApiClient;
+    private final LawCatalog lawCatalog;
+    private final LawTextCache lawTextCache;
+    private final OpenAiClient openAiClient;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("analysisExecutor")
+    private final ExecutorService analysisExecutor;
+
+    @Value("${law.warmup.enabled:true}")
+    private boolean enabled;
+
+    // 법령명을 미리 번역해 둘 언어 (쉼표 구분, 비우면 번역 생략)
+    @Value("${law.warmup.languages:}")
+    private String[] languages;
+
+    @Value("${law.warmup.timeout:2m}")
+    private Duration timeout;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) return;
+        // 워밍업의 외부 호출은 모두 분석 요청보다 뒤로 미룬다. 아래 executor 작업은 wrap 으로 이 우선순위를 이어받는다
+        CallPriority.runAs(CallPriority.BACKGROUND, this::warmAll);
+    }
+
+    private void warmAll() {
+        long started = System.nanoTime();
+
+        // 분석은 같은 검색어로 귀결되는 이슈 유형을 한 번만 검색하므로 검색어마다 대표 유형 하나로 검색한다
+        Map<String, String> issueTypeByQuery = new LinkedHashMap<>();
+        lawApiClient.issueQueries().keySet()
+                .forEach(issueType -> issueTypeByQuery.putIfAbsent(lawApiClient.resolveQuery(issueType), issueType));
+        List<CompletableFuture<List<LawSearchHit>>> searches = issueTypeByQuery.values().stream()
+                .map(issueType -> CompletableFuture.supplyAsync(
+                        CallPriority.wrap(() -> search(issueType)), analysisExecutor))
+                .toList();
+
+        // 검색이 끝나는 대로 법령(MST)별 본문 조회와 법령명 번역을 이어서 실행
+        Map<String, LawSearchHit> laws = new LinkedHashMap<>();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (CompletableFuture<List<LawSearchHit>> search : searches) {
+            for (LawSearchHit hit : joinQuietly(search)) {
+                if (StringUtils.hasText(hit.lawSerialNumber()) && laws.putIfAbsent(hit.lawSerialNumber(), hit) == null) {
+                    tasks.add(CompletableFuture.runAsync(CallPriority.wrap(() -> warm(hit)), analysisExecutor));
+                }
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, timeout.toNanos() - (System.nanoTime() - started)), TimeUnit.NANOSECONDS);
+            log.info("법령 워밍업 완료: 검색어 {}개, 법령 {}개, 언어 {}", issueTypeByQuery.size(), laws.size(),
+                    Arrays.toString(languages));
+        } catch (TimeoutException e) {
+            log.warn("법령 워밍업이 {} 안에 끝나지 않아 나머지는 백그라운드에서 계속합니다.", timeout);
+        } catch (ExecutionException e) {
+            log.warn("법령 워밍업 일부 실패: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            meterRegistry.timer("law.warmup").record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // LawService.searchLaws 와 같이 카탈로그를 먼저 보고, 없으면 분석과 같은 원격 검색(searchRelatedLawHits)을 쓴다
+    private List<LawSearchHit> search(String issueType) {
+        List<LawSearchHit> local = lawCatalog.search(lawApiClient.resolveQuery(issueType), LawService.CATALOG_RESULTS);
+        if (!local.isEmpty()) return local;
+        try {
+            return lawApiClient.searchRelatedLawHits(issueType);
+        } catch (Exception e) {
+            log.warn("워밍업 법령 검색 실패 (issue={}): {}", issueType, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void warm(LawSearchHit hit) {
+        try {
+            lawTextCache.get(hit.lawSerialNumber(), () -> lawApiClient.fetchLawArticles(hit.lawSerialNumber()));
+        } catch (Exception e) {
+            log.warn("워밍업 법령 본문 조회 실패 (MST={}): {}", hit.lawSerialNumber(), e.getMessage());
+        }
+        for (String language : languages) {
+            if (!StringUtils.hasText(language) || LawService.isKorean(language.trim())) continue;
+            try {
+                openAiClient.translateText(hit.lawName(), language.trim());
+            } catch (Exception e) {
+                log.warn("워밍업 법령명 번역 실패 ({} → {}): {}", hit.lawName(), language, e.getMessage());
+            }
+        }
+    }
+
+    private static List<LawSearchHit> joinQuietly(CompletableFuture<List<LawSearchHit>> search) {
+        try {
+            return search.join();
+        } catch (RuntimeException e) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package contest.mobicom_contest.law.service;
+
+import java.text.Normalizer;
+
+/**
+ * 공백·줄바꿈·OCR 구두점 잡음에 영향받지 않는 계약서 텍스트 지문.
+ * NFKC 정규화(전각 → 반각 등) 후 한글·영문·숫자만 남겨(영문은 소문자) SHA-256 을 계산한다.
+ * 숫자 사이의 구분은 남기므로("1.5만원" / "15만원", "8 5" / "85") 임금·시간 등이 다른 계약서는 다른 지문을 갖는다.
+ * 숫자 사이의 '.'·',' 는 '.' 하나로, 그 밖의 공백·기호는 ' ' 하나로 줄인다.
+ */
+final class OcrFingerprint {
+
+    private OcrFingerprint() {
+    }
+
+    static String of(String ocrText) {
+        return ContentHash.sha256(normalize(ocrText));
+    }
+
+    static String normalize(String ocrText) {
+        if (ocrText == null) return "";
+        String text = Normalizer.normalize(ocrText, Normalizer.Form.NFKC);
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean afterDigit = false;
+        char separator = 0;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                boolean digit = Character.isDigit(codePoint);
+                if (afterDigit && digit && separator != 0) {
+                    normalized.append(separator);
+                }
+                normalized.appendCodePoint(Character.toLowerCase(codePoint));
+                afterDigit = digit;
+                separator = 0;
+            } else if (afterDigit) {
+                if (codePoint == '.' || codePoint == ',') {
+                    separator = '.';
+                } else if (separator == 0) {
+                    separator = ' ';
+                }
+            }
+        }
+        return normalized.toString();
+    }
+}
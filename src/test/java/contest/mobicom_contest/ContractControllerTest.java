@@ -1,6 +1,7 @@
 package contest.mobicom_contest;
 
 import contest.mobicom_contest.contract.controller.ContractController;
+import contest.mobicom_contest.contract.exceptions.ImageProcessingBusyException;
 import contest.mobicom_contest.contract.service.ContractService;
 import contest.mobicom_contest.member.service.MemberService;
 import org.junit.jupiter.api.DisplayName;
@@ -47,4 +48,17 @@ class ContractControllerTest {
                         .file(file))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("POST /api/contract/1/upload-and-translate - 이미지 처리 풀 포화 시 429")
+    void testUploadWhenImagePoolBusy() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "test.png", MediaType.IMAGE_PNG_VALUE, "test image".getBytes());
+        Mockito.when(contractService.analyze(Mockito.any(), Mockito.any()))
+                .thenThrow(new ImageProcessingBusyException(2));
+
+        mockMvc.perform(multipart("/api/contract/1/upload-and-translate")
+                        .file(file))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"));
+    }
 }
@@ -1,6 +1,9 @@
 package contest.mobicom_contest;
 
 import contest.mobicom_contest.law.controller.LawController;
+import contest.mobicom_contest.law.dto.AnalysisJobDto;
+import contest.mobicom_contest.law.dto.AnalysisJobStatus;
+import contest.mobicom_contest.law.service.AnalysisJobService;
 import contest.mobicom_contest.law.service.LawService;
 import contest.mobicom_contest.contract.service.ContractService;
 import contest.mobicom_contest.law.model.LawInfo;
@@ -30,6 +33,9 @@ class LawControllerTest {
     @MockBean
     private LawService lawService;
 
+    @MockBean
+    private AnalysisJobService analysisJobService;
+
     @MockBean
     private ContractService contractService;
 
@@ -42,4 +48,19 @@ class LawControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("POST /api/contracts/1/analyze - 비동기 분석 작업 생성")
+    void testAnalyzeContractAsync() throws Exception {
+        given(analysisJobService.submit(1L, false)).willReturn(AnalysisJobDto.builder()
+                .jobId("job-1")
+                .contractId(1L)
+                .status(AnalysisJobStatus.QUEUED)
+                .build());
+
+        mockMvc.perform(post("/api/contracts/1/analyze"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/analysis-jobs/job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
 }
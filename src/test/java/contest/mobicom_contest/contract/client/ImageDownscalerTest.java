@@ -0,0 +1,137 @@
+package contest.mobicom_contest.contract.client;
+
+import contest.mobicom_contest.contract.exceptions.ImageTooLargeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageDownscalerTest {
+
+    // 40x20 원본: 왼쪽 절반 빨강, 오른쪽 절반 파랑
+    private static final int WIDTH = 40;
+    private static final int HEIGHT = 20;
+
+    private final ImageDownscaler downscaler = new ImageDownscaler(1000, 1000, 10_000);
+
+    @Test
+    @DisplayName("방향 1: 그대로")
+    void testOrientationNormal() throws IOException {
+        BufferedImage out = downscale(jpegWithOrientation(1));
+
+        assertThat(out.getWidth()).isEqualTo(WIDTH);
+        assertThat(out.getHeight()).isEqualTo(HEIGHT);
+        assertThat(isRed(out.getRGB(3, 10))).isTrue();
+        assertThat(isBlue(out.getRGB(36, 10))).isTrue();
+    }
+
+    @Test
+    @DisplayName("방향 6: 시계 방향 90도 회전 (원본 왼쪽이 위로)")
+    void testOrientationRotateClockwise() throws IOException {
+        BufferedImage out = downscale(jpegWithOrientation(6));
+
+        assertThat(out.getWidth()).isEqualTo(HEIGHT);
+        assertThat(out.getHeight()).isEqualTo(WIDTH);
+        assertThat(isRed(out.getRGB(10, 3))).isTrue();
+        assertThat(isBlue(out.getRGB(10, 36))).isTrue();
+    }
+
+    @Test
+    @DisplayName("방향 8: 반시계 방향 90도 회전 (원본 왼쪽이 아래로)")
+    void testOrientationRotateCounterClockwise() throws IOException {
+        BufferedImage out = downscale(jpegWithOrientation(8));
+
+        assertThat(out.getWidth()).isEqualTo(HEIGHT);
+        assertThat(out.getHeight()).isEqualTo(WIDTH);
+        assertThat(isBlue(out.getRGB(10, 3))).isTrue();
+        assertThat(isRed(out.getRGB(10, 36))).isTrue();
+    }
+
+    @Test
+    @DisplayName("헤더의 픽셀 수가 한도를 넘으면 디코딩 전에 거부")
+    void testRejectsTooManyPixels() throws IOException {
+        byte[] jpeg = jpegWithOrientation(1);
+        ImageDownscaler limited = new ImageDownscaler(1000, 1000, WIDTH * HEIGHT - 1);
+
+        assertThatThrownBy(() -> limited.toJpeg(() -> new ByteArrayInputStream(jpeg)))
+                .isInstanceOf(ImageTooLargeException.class);
+    }
+
+    @Test
+    @DisplayName("기본 한도(4천만 픽셀)를 크게 넘는 헤더는 전체 디코딩 없이 거부")
+    void testRejectsHugeImageWithoutDecoding() throws IOException {
+        // 40x20 스캔에 60000x60000 을 선언한 JPEG. 실제로 디코딩하면 IIOException(또는 OOM)이 난다
+        byte[] jpeg = withDeclaredSize(jpegWithOrientation(1), 60_000, 60_000);
+        ImageDownscaler limited = new ImageDownscaler(1000, 1000, 40_000_000);
+
+        assertThatThrownBy(() -> limited.toJpeg(() -> new ByteArrayInputStream(jpeg)))
+                .isInstanceOf(ImageTooLargeException.class)
+                .hasMessageContaining("60000x60000");
+    }
+
+    private BufferedImage downscale(byte[] jpeg) throws IOException {
+        byte[] out = downscaler.toJpeg(() -> new ByteArrayInputStream(jpeg));
+        return ImageIO.read(new ByteArrayInputStream(out));
+    }
+
+    // SOI 바로 뒤에 방향 태그 하나만 있는 빅엔디언 EXIF(APP1) 세그먼트를 넣는다
+    private static byte[] jpegWithOrientation(int orientation) throws IOException {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, WIDTH / 2, HEIGHT);
+        g.setColor(Color.BLUE);
+        g.fillRect(WIDTH / 2, 0, WIDTH / 2, HEIGHT);
+        g.dispose();
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", encoded);
+        byte[] jpeg = encoded.toByteArray();
+
+        byte[] exif = {
+                (byte) 0xFF, (byte) 0xE1, 0, 34,
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(exif);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    // SOF0 세그먼트의 높이·너비만 바꾼다 (스캔 데이터는 원래 크기 그대로)
+    private static byte[] withDeclaredSize(byte[] jpeg, int width, int height) {
+        byte[] out = jpeg.clone();
+        int offset = 2;
+        while (((out[offset] & 0xFF) << 8 | (out[offset + 1] & 0xFF)) != 0xFFC0) {
+            offset += 2 + ((out[offset + 2] & 0xFF) << 8 | (out[offset + 3] & 0xFF));
+        }
+        out[offset + 5] = (byte) (height >> 8);
+        out[offset + 6] = (byte) height;
+        out[offset + 7] = (byte) (width >> 8);
+        out[offset + 8] = (byte) width;
+        return out;
+    }
+
+    private static boolean isRed(int rgb) {
+        Color c = new Color(rgb);
+        return c.getRed() > 180 && c.getBlue() < 80;
+    }
+
+    private static boolean isBlue(int rgb) {
+        Color c = new Color(rgb);
+        return c.getBlue() > 180 && c.getRed() < 80;
+    }
+}
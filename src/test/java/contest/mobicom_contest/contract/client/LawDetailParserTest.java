@@ -0,0 +1,122 @@
+package contest.mobicom_contest.contract.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import contest.mobicom_contest.contract.dto.LawArticle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LawDetailParserTest {
+
+    private final LawDetailParser parser = new LawDetailParser(new ObjectMapper().getFactory());
+
+    @Test
+    @DisplayName("\"조문\" 배열 구조: 항·호·목을 차례로 붙이고 제·개정 이유는 마지막에 둔다")
+    void testArticleArrayWithNestedClauses() throws IOException {
+        String json = """
+                {"법령": {
+                  "기본정보": {"법령명_한글": "근로기준법"},
+                  "제개정이유": {"제개정이유내용": [["개정이유 1", "개정이유 2"]]},
+                  "조문": [
+                    {"조문번호": "17", "조문키": "0017001", "조문제목": "근로조건의 명시",
+                     "조문내용": "제17조(근로조건의 명시)",
+                     "항": [
+                       {"항번호": "①", "항내용": "① 사용자는 다음 사항을 명시하여야 한다.",
+                        "호": [
+                          {"호번호": "1.", "호내용": "1. 임금",
+                           "목": [{"목내용": "가. 구성항목"}, {"목내용": "나. 지급방법"}]},
+                          {"호번호": "2.", "호내용": "2. 소정근로시간"}
+                        ]},
+                       {"항번호": "②", "항내용": "② 서면으로 교부하여야 한다."}
+                     ]},
+                    {"조문번호": "18", "조문키": "0018001", "조문제목": "단시간근로자", "조문내용": "제18조(단시간근로자) 본문",
+                     "항": {"항내용": "① 비율에 따라 결정한다."}}
+                  ]
+                }}
+                """;
+
+        List<LawArticle> articles = parse(json);
+
+        assertThat(articles).extracting(LawArticle::title)
+                .containsExactly("근로조건의 명시", "단시간근로자", "제·개정 이유");
+        assertThat(articles).extracting(LawArticle::key).containsExactly("0017001", "0018001", "제개정이유");
+        assertThat(articles.get(0).text()).isEqualTo("제17조(근로조건의 명시)\n"
+                + "① 사용자는 다음 사항을 명시하여야 한다.\n"
+                + "1. 임금\n"
+                + "가. 구성항목\n"
+                + "나. 지급방법\n"
+                + "2. 소정근로시간\n"
+                + "② 서면으로 교부하여야 한다.\n");
+        assertThat(articles.get(1).text()).isEqualTo("제18조(단시간근로자) 본문\n① 비율에 따라 결정한다.\n");
+        assertThat(articles.get(2).text()).isEqualTo("개정이유 1\n개정이유 2\n");
+    }
+
+    @Test
+    @DisplayName("\"조문\": {\"조문단위\": ...} 구조: 배열과 단일 객체 모두 읽는다")
+    void testArticleUnitLayout() throws IOException {
+        String units = """
+                {"법령": {"조문": {"조문단위": [
+                  {"조문제목": "목적", "조문내용": "제1조(목적) 이 법은"},
+                  {"조문제목": "정의", "조문내용": "제2조(정의)", "항": [{"항내용": "① 근로자란", "호": {"호내용": "1. 사람"}}]}
+                ]}}}
+                """;
+        String single = """
+                {"법령": {"조문": {"조문단위": {"조문제목": "목적", "조문내용": "제1조(목적) 이 법은"}}}}
+                """;
+
+        List<LawArticle> articles = parse(units);
+
+        assertThat(articles).extracting(LawArticle::title).containsExactly("목적", "정의");
+        assertThat(articles.get(0).text()).isEqualTo("제1조(목적) 이 법은\n");
+        assertThat(articles.get(1).text()).isEqualTo("제2조(정의)\n① 근로자란\n1. 사람\n");
+        assertThat(parse(single)).containsExactly(new LawArticle("#0", "목적", "제1조(목적) 이 법은\n"));
+    }
+
+    @Test
+    @DisplayName("조문·항 내용의 HTML 태그 제거: <br> 류는 줄바꿈, 닫히지 않은 '<' 는 그대로")
+    void testStripsHtml() throws IOException {
+        String json = """
+                {"법령": {"조문": [
+                  {"조문제목": "임금", "조문내용": "제43조<br/>임금은 <span class=\\"a\\">통화</span>로<BR >지급",
+                   "항": {"항내용": "① 1 < 2 인 경우"}}
+                ]}}
+                """;
+
+        assertThat(parse(json)).containsExactly(
+                new LawArticle("#0", "임금", "제43조\n임금은 통화로\n지급\n① 1 < 2 인 경우\n"));
+    }
+
+    @Test
+    @DisplayName("조문제목이 같은 조문과 제목 없는 전문 행도 조문키로 구분한다")
+    void testSameTitledArticlesHaveDistinctKeys() throws IOException {
+        String json = """
+                {"법령": {"조문": {"조문단위": [
+                  {"조문키": "0107000", "조문여부": "전문", "조문내용": "제12장 벌칙"},
+                  {"조문키": "0107001", "조문번호": "107", "조문제목": "벌칙", "조문내용": "제107조(벌칙) 5년 이하"},
+                  {"조문키": "0110001", "조문번호": "110", "조문제목": "벌칙", "조문내용": "제110조(벌칙) 2년 이하"},
+                  {"조문번호": "116", "조문제목": "과태료", "조문내용": "제116조(과태료)"}
+                ]}}}
+                """;
+
+        List<LawArticle> articles = parse(json);
+
+        assertThat(articles).extracting(LawArticle::title).containsExactly("", "벌칙", "벌칙", "과태료");
+        assertThat(articles).extracting(LawArticle::key).containsExactly("0107000", "0107001", "0110001", "no:116");
+    }
+
+    @Test
+    @DisplayName("법령 객체가 없으면 빈 목록")
+    void testMissingLaw() throws IOException {
+        assertThat(parse("{\"Law\": \"일치하는 법령이 없습니다.\"}")).isEmpty();
+    }
+
+    private List<LawArticle> parse(String json) throws IOException {
+        return parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,115 @@
+package contest.mobicom_contest.contract.client;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import contest.mobicom_contest.config.S3UploadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3UploaderTest {
+
+    private static final int PART_SIZE = (int) DataSize.ofMegabytes(5).toBytes();
+
+    private final AmazonS3 amazonS3 = Mockito.mock(AmazonS3.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    // 파트 번호 → 요청된 파트 크기 (버퍼는 재사용되므로 크기만 기록)
+    private final Map<Integer, Long> partSizes = new ConcurrentHashMap<>();
+    private S3Uploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        S3UploadProperties properties = new S3UploadProperties();
+        properties.setPartSize(DataSize.ofBytes(PART_SIZE));
+        properties.setBuffers(3);
+        uploader = new S3Uploader(amazonS3, properties, new SimpleMeterRegistry(), executor);
+        ReflectionTestUtils.setField(uploader, "bucket", "bucket");
+        uploader.init();
+
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-1");
+        Mockito.when(amazonS3.initiateMultipartUpload(Mockito.any(InitiateMultipartUploadRequest.class)))
+                .thenReturn(initiated);
+        Mockito.when(amazonS3.uploadPart(Mockito.any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            partSizes.put(request.getPartNumber(), request.getPartSize());
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("파트 크기의 정확한 배수면 빈 마지막 파트 없이 완료")
+    void testExactMultipleOfPartSize() throws Exception {
+        uploader.put("key", new ByteArrayInputStream(new byte[PART_SIZE * 2]), -1, "image/jpeg");
+
+        assertThat(partSizes).containsExactlyInAnyOrderEntriesOf(Map.of(1, (long) PART_SIZE, 2, (long) PART_SIZE));
+        assertThat(completedParts()).extracting(PartETag::getPartNumber).containsExactly(1, 2);
+        Mockito.verify(amazonS3, Mockito.never()).abortMultipartUpload(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("크기를 모르는 빈 스트림은 빈 파트 하나로 완료")
+    void testEmptyStreamOfUnknownSize() throws Exception {
+        uploader.put("key", InputStream.nullInputStream(), -1, "image/jpeg");
+
+        assertThat(partSizes).containsExactlyEntriesOf(Map.of(1, 0L));
+        assertThat(completedParts()).extracting(PartETag::getPartNumber).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("파트 전송이 실패하면 업로드를 취소하고 원래 예외를 던진다")
+    void testAbortsOnFailedPart() {
+        Mockito.doThrow(new AmazonServiceException("part 2 failed")).when(amazonS3)
+                .uploadPart(Mockito.argThat(request -> request != null && request.getPartNumber() == 2));
+
+        assertThatThrownBy(() -> uploader.put("key",
+                new ByteArrayInputStream(new byte[PART_SIZE * 3]), -1, "image/jpeg"))
+                .isInstanceOf(AmazonServiceException.class)
+                .hasMessageContaining("part 2 failed");
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        Mockito.verify(amazonS3).abortMultipartUpload(abort.capture());
+        assertThat(abort.getValue().getUploadId()).isEqualTo("upload-1");
+        Mockito.verify(amazonS3, Mockito.never()).completeMultipartUpload(Mockito.any());
+    }
+
+    private List<PartETag> completedParts() {
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        Mockito.verify(amazonS3).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().getUploadId()).isEqualTo("upload-1");
+        return complete.getValue().getPartETags();
+    }
+}
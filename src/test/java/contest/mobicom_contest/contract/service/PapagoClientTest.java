@@ -0,0 +1,109 @@
+package contest.mobicom_contest.contract.service;
+
+import contest.mobicom_contest.contract.client.PapagoClient;
+import contest.mobicom_contest.contract.exceptions.ImageProcessingBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PapagoClientTest {
+
+    // 작업자 1개, 대기열 1칸: 하나가 처리 중이고 하나가 대기 중이면 다음 요청은 거절된다
+    private final ThreadPoolExecutor imageExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        imageExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("이미지 처리 풀과 대기열이 가득 차면 Retry-After 와 함께 거절하고 지표를 남긴다")
+    void testRejectsWhenImagePoolIsSaturated() throws Exception {
+        PapagoClient papagoClient = papagoClient(Duration.ofSeconds(3));
+        CountDownLatch started = new CountDownLatch(1);
+        imageExecutor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        Future<?> queued = imageExecutor.submit(() -> { });
+        started.await(5, TimeUnit.SECONDS);
+        MockMultipartFile file = jpeg();
+
+        assertThatThrownBy(() -> papagoClient.resizeImageToA4Portrait(file))
+                .isInstanceOfSatisfying(ImageProcessingBusyException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(3));
+        assertThat(meterRegistry.counter("image.processing.rejected").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.processing.queue").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.processing.active").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.timer("image.processing").count()).isZero();
+
+        // 풀이 비면 같은 요청이 처리되고 대기·처리 시간이 기록된다
+        release.countDown();
+        queued.get(5, TimeUnit.SECONDS);
+        byte[] resized = papagoClient.resizeImageToA4Portrait(file);
+
+        assertThat(ImageIO.read(new ByteArrayInputStream(resized))).isNotNull();
+        assertThat(meterRegistry.timer("image.processing").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("image.processing.wait").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.processing.queue").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Retry-After 는 1초 미만으로 내려가지 않는다")
+    void testRetryAfterIsAtLeastOneSecond() {
+        PapagoClient papagoClient = papagoClient(Duration.ofMillis(200));
+        imageExecutor.execute(() -> awaitQuietly(release));
+        imageExecutor.execute(() -> { });
+
+        assertThatThrownBy(() -> papagoClient.resizeImageToA4Portrait(jpeg()))
+                .isInstanceOfSatisfying(ImageProcessingBusyException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(1));
+    }
+
+    private PapagoClient papagoClient(Duration retryAfter) {
+        PapagoClient papagoClient = new PapagoClient(new RestTemplate(), null, meterRegistry, imageExecutor);
+        ReflectionTestUtils.setField(papagoClient, "maxPixels", 40_000_000L);
+        ReflectionTestUtils.setField(papagoClient, "imageRetryAfter", retryAfter);
+        ReflectionTestUtils.invokeMethod(papagoClient, "init");
+        return papagoClient;
+    }
+
+    private static MockMultipartFile jpeg() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB), "jpg", out);
+        return new MockMultipartFile("file", "contract.jpg", MediaType.IMAGE_JPEG_VALUE, out.toByteArray());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package contest.mobicom_contest.law.service;
+
+import contest.mobicom_contest.contract.dto.Issue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractRuleEngineTest {
+
+    private final ContractRuleEngine ruleEngine = new ContractRuleEngine();
+
+    @Test
+    @DisplayName("최저시급 미달과 주 52시간 초과를 규칙으로 판정")
+    void testDetectsWageAndHours() {
+        String ocrText = "1. 근로계약기간 : 2023년 3월 23일부터 2024년 3월 22일까지\n" +
+                "4. 소정근로시간 : 09시 00분부터 18시 00분까지(휴게시간 :12시 00분 ~ 13시 00분)\n" +
+                "5. 근무일/휴일 : 매주 평일(또는 매일단위)60시간 근무, 주휴일 매주 일요일\n" +
+                "- 월(일, 시간)급 : 시급 8,000원 (주휴수당 제외)\n";
+
+        List<Issue> issues = ruleEngine.evaluate(ocrText);
+
+        assertThat(issues).extracting(Issue::getType).containsExactly("최저임금", "근로시간");
+        assertThat(issues.get(0).getEvidence()).contains("시급 8,000원");
+        assertThat(issues.get(1).getEvidence()).contains("60시간");
+    }
+
+    @Test
+    @DisplayName("법정 기준을 지키는 계약서는 이슈 없음")
+    void testCompliantContract() {
+        String ocrText = "근로계약기간 : 2025년 1월 2일부터\n" +
+                "소정근로시간 : 09시 00분부터 18시 00분까지(휴게시간 : 12시 00분 ~ 13시 00분)\n" +
+                "근무일 : 주 40시간\n" +
+                "시급 10,500원\n";
+
+        assertThat(ruleEngine.evaluate(ocrText)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주 근로시간이 없으면 근무 시각·날짜 등 다른 숫자로 주 근로시간을 만들지 않음")
+    void testNoWeeklyHoursFromUnrelatedNumbers() {
+        String ocrText = "1. 근로계약기간 : 2023년 3월 23일부터 2024년 3월 22일까지\n" +
+                "4. 소정근로시간 : 09시 00분부터 18시 00분까지(휴게시간 :12시 00분 ~ 13시 00분)\n" +
+                "5. 근무일/휴일 : 매주 평일 근무(1일 8시간), 주휴일 매주 일요일\n" +
+                "- 월(일, 시간)급 : 시급 8,000원 (주휴수당 제외)\n" +
+                "- 임금지급일 : 매월(매주 또는 매일) 25일(휴일의 경우는 전일 지급)\n";
+
+        assertThat(ContractFields.extract(ocrText).weeklyHours()).isNull();
+        assertThat(ruleEngine.evaluate(ocrText)).extracting(Issue::getType).containsExactly("최저임금");
+    }
+}
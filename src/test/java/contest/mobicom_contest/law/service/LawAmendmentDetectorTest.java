@@ -0,0 +1,71 @@
+package contest.mobicom_contest.law.service;
+
+import contest.mobicom_contest.contract.client.LawApiClient;
+import contest.mobicom_contest.contract.client.OpenAiClient;
+import contest.mobicom_contest.contract.dto.LawArticle;
+import contest.mobicom_contest.contract.dto.LawSearchHit;
+import contest.mobicom_contest.law.dto.LawVersion;
+import contest.mobicom_contest.law.model.LawAmendmentRepository;
+import contest.mobicom_contest.law.model.LawInfoRepository;
+import contest.mobicom_contest.law.model.LawSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LawAmendmentDetectorTest {
+
+    private static final String LAW_NAME = "근로기준법";
+    private static final String OLD_MST = "100";
+    private static final String NEW_MST = "200";
+
+    private final LawApiClient lawApiClient = Mockito.mock(LawApiClient.class);
+    private final LawInfoRepository lawInfoRepository = Mockito.mock(LawInfoRepository.class);
+    private final LawTextCache lawTextCache = Mockito.mock(LawTextCache.class);
+    private final LawSummaryCache lawSummaryCache = Mockito.mock(LawSummaryCache.class);
+
+    private final LawAmendmentDetector detector = new LawAmendmentDetector(lawApiClient, lawInfoRepository,
+            Mockito.mock(LawAmendmentRepository.class), lawTextCache, lawSummaryCache,
+            Mockito.mock(LawCatalog.class), Mockito.mock(OpenAiClient.class), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("제목이 같은 두 조문 중 하나만 개정되면 그 조문을 쓴 요약만 다시 만든다")
+    void testAmendsOneOfTwoSameTitledArticles() {
+        LawArticle article107 = new LawArticle("0107001", "벌칙", "제107조(벌칙) 5년 이하의 징역");
+        LawArticle article110 = new LawArticle("0110001", "벌칙", "제110조(벌칙) 2년 이하의 징역");
+        LawArticle amended107 = new LawArticle("0107001", "벌칙", "제107조(벌칙) 7년 이하의 징역");
+
+        Mockito.when(lawInfoRepository.findDistinctLawVersions())
+                .thenReturn(List.of(new LawVersion(LAW_NAME, OLD_MST, "1")));
+        Mockito.when(lawApiClient.searchLawCatalogPage(LAW_NAME, 1, 20))
+                .thenReturn(List.of(new LawSearchHit(LAW_NAME, NEW_MST, "2", "/law")));
+        Mockito.when(lawTextCache.peek(OLD_MST)).thenReturn(Optional.of(List.of(article107, article110)));
+        Mockito.when(lawTextCache.get(Mockito.eq(NEW_MST), Mockito.any())).thenReturn(List.of(amended107, article110));
+
+        LawSummary covers107 = summary("0107001");
+        LawSummary covers110 = summary("0110001");
+        Mockito.when(lawSummaryCache.findByLaw(OLD_MST)).thenReturn(List.of(covers107, covers110));
+
+        assertThat(detector.checkAll()).isEqualTo(1);
+
+        Mockito.verify(lawSummaryCache).carryOver(covers110, NEW_MST);
+        Mockito.verify(lawSummaryCache, Mockito.never()).carryOver(Mockito.eq(covers107), Mockito.any());
+        Mockito.verify(lawSummaryCache).get(Mockito.eq(NEW_MST), Mockito.eq(List.of(amended107)),
+                Mockito.eq("English"), Mockito.any());
+    }
+
+    private static LawSummary summary(String articleKeys) {
+        return LawSummary.builder()
+                .lawSerialNumber(OLD_MST)
+                .contentHash(articleKeys)
+                .targetLanguage("English")
+                .articleKeys(articleKeys)
+                .summary("요약")
+                .build();
+    }
+}
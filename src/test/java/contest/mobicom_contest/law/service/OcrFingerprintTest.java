@@ -0,0 +1,27 @@
+package contest.mobicom_contest.law.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OcrFingerprintTest {
+
+    @Test
+    @DisplayName("소수점·구분자가 다른 숫자는 다른 지문")
+    void decimalSeparatorsAreKept() {
+        assertThat(OcrFingerprint.of("시급 1.5만원")).isNotEqualTo(OcrFingerprint.of("시급 15만원"));
+        assertThat(OcrFingerprint.of("1일 8.5시간")).isNotEqualTo(OcrFingerprint.of("1일 85시간"));
+        assertThat(OcrFingerprint.of("8 5시간")).isNotEqualTo(OcrFingerprint.of("85시간"));
+    }
+
+    @Test
+    @DisplayName("공백·줄바꿈·구두점 잡음과 전각 문자는 같은 지문")
+    void ocrNoiseIsIgnored() {
+        assertThat(OcrFingerprint.of("시급 8,000원\n(주휴수당 제외)"))
+                .isEqualTo(OcrFingerprint.of("시급  8.000 원 주휴수당 제외"));
+        assertThat(OcrFingerprint.of("근로시간 : 09시 00분"))
+                .isEqualTo(OcrFingerprint.of("근로시간:０９시００분"));
+        assertThat(OcrFingerprint.of("1. 근로계약기간")).isEqualTo(OcrFingerprint.of("1 근로계약기간"));
+    }
+}